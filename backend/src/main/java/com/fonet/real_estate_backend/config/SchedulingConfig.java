@@ -0,0 +1,14 @@
+package com.fonet.real_estate_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as listing archival.
+ * The scheduler pool is sized by spring.task.scheduling.pool.size, so one long-running job
+ * does not delay the others.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
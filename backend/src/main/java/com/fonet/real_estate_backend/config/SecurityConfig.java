@@ -47,9 +47,12 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()          // Auth işlemleri açık
+                        .requestMatchers(HttpMethod.GET, "/api/properties/export").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/properties/**").permitAll() // Anasayfa ilanları açık
                         .requestMatchers(HttpMethod.GET, "/api/properties/search").permitAll()
                         .requestMatchers(HttpMethod.GET, "/uploads/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/health/readiness").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/properties/*/events").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .anyRequest().authenticated() // Diğerleri login gerektirir
                 )
@@ -1,22 +1,101 @@
 package com.fonet.real_estate_backend.config;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
- * Web MVC configuration class for handling static resources.
- * This configuration allows serving uploaded files (images, documents) as static resources.
+ * Web MVC configuration class for handling static resources and response formats.
+ * This configuration allows serving uploaded files (images, documents) as static resources
+ * and lets API clients negotiate compact binary encodings (CBOR, Smile) through the Accept header.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
     private static final String UPLOAD_DIR = "uploads/";
 
+    @Value("${fonet.export.max-concurrent:2}")
+    private int maxConcurrentExports;
+
+    private final ThreadPoolTaskExecutor streamingResponseExecutor = new ThreadPoolTaskExecutor();
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations("file:" + UPLOAD_DIR);
     }
+
+    /**
+     * Marks API responses as varying by Accept, so caches keep JSON and binary
+     * representations (and their ETags) apart.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+
+    /**
+     * Streaming responses (the NDJSON export) run on their own small pool instead of the application
+     * task executor, so long exports cannot starve image cleanup or background deletion. Not exposed
+     * as a bean: another Executor bean would replace Boot's applicationTaskExecutor.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        streamingResponseExecutor.setCorePoolSize(maxConcurrentExports);
+        streamingResponseExecutor.setMaxPoolSize(maxConcurrentExports);
+        // Room for a request that got its slot while the previous export's thread is still finishing.
+        streamingResponseExecutor.setQueueCapacity(maxConcurrentExports);
+        streamingResponseExecutor.setThreadNamePrefix("streaming-");
+        streamingResponseExecutor.initialize();
+        configurer.setTaskExecutor(streamingResponseExecutor);
+    }
+
+    @PreDestroy
+    void shutdownStreamingResponseExecutor() {
+        streamingResponseExecutor.shutdown();
+    }
+
+    /**
+     * CBOR converter (application/cbor) sharing the application's Jackson configuration.
+     *
+     * @param builder Boot-configured ObjectMapper builder (prototype scoped)
+     * @return CBOR message converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Smile converter (application/x-jackson-smile) sharing the application's Jackson configuration.
+     *
+     * @param builder Boot-configured ObjectMapper builder (prototype scoped)
+     * @return Smile message converter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
 }
@@ -1,12 +1,21 @@
 package com.fonet.real_estate_backend.controller;
 
+import com.fonet.real_estate_backend.dto.PortfolioSummary;
 import com.fonet.real_estate_backend.model.Business;
 import com.fonet.real_estate_backend.repository.BusinessRepository;
 import com.fonet.real_estate_backend.repository.UserRepository;
+import com.fonet.real_estate_backend.service.AccountDeletionService;
+import com.fonet.real_estate_backend.service.AuditLog;
+import com.fonet.real_estate_backend.service.AuditRecord;
+import com.fonet.real_estate_backend.service.ChangeWatermarkService;
+import com.fonet.real_estate_backend.service.PortfolioService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 /**
@@ -21,6 +30,17 @@ public class BusinessController {
     private BusinessRepository businessRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private AccountDeletionService accountDeletionService;
+    @Autowired
+    private PortfolioService portfolioService;
+    @Autowired
+    private ChangeWatermarkService changeWatermarkService;
+    @Autowired
+    private AuditLog auditLog;
+
+    @Value("${fonet.portfolio.max-page-size:100}")
+    private int maxPageSize;
 
     /**
      * Retrieves all business entities from the database.
@@ -45,6 +65,37 @@ public class BusinessController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Returns the portfolio summary of a business user: listing counts and total value overall,
+     * per status and per type, plus one page of the most recent listings.
+     * Archived (sold/rented) listings are included so the status breakdown covers the full history.
+     *
+     * @param userId The ID of the user associated with the business
+     * @param page Zero-based page of the recent listings
+     * @param size Page size of the recent listings (capped by fonet.portfolio.max-page-size)
+     * @param webRequest Current request, used for conditional GET handling
+     * @return ResponseEntity with the summary, 304 Not Modified, 400 Bad Request for an invalid page,
+     *         or 404 Not Found if the user has no business profile
+     */
+    @GetMapping("/{id}/portfolio")
+    public ResponseEntity<?> getPortfolio(@PathVariable("id") Long userId,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "20") int size,
+                                          WebRequest webRequest) {
+        if (page < 0 || size < 1) {
+            return ResponseEntity.badRequest().body("page must be >= 0 and size must be >= 1");
+        }
+        if (!businessRepository.existsByUserId(userId)) {
+            return ResponseEntity.notFound().build();
+        }
+        String eTag = changeWatermarkService.weakETag(ChangeWatermarkService.PROPERTY);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        PortfolioSummary summary = portfolioService.summarize(userId, page, Math.min(size, maxPageSize));
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(summary);
+    }
+
     /**
      * Creates a new business entity.
      * Validates the business data before saving to the database.
@@ -54,7 +105,9 @@ public class BusinessController {
      */
     @PostMapping
     public Business createBusiness(@Valid @RequestBody Business business) {
-        return businessRepository.save(business);
+        Business saved = businessRepository.save(business);
+        auditLog.record(AuditRecord.EntityType.BUSINESS, AuditRecord.Action.CREATE, saved.getId());
+        return saved;
     }
 
     /**
@@ -74,7 +127,9 @@ public class BusinessController {
                     business.setLastName(businessDetails.getLastName());
                     business.setAddress(businessDetails.getAddress());
                     business.setPhoneNumber(businessDetails.getPhoneNumber());
-                    return ResponseEntity.ok(businessRepository.save(business));
+                    Business saved = businessRepository.save(business);
+                    auditLog.record(AuditRecord.EntityType.BUSINESS, AuditRecord.Action.UPDATE, id);
+                    return ResponseEntity.ok(saved);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -87,11 +142,11 @@ public class BusinessController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBusiness(@PathVariable Long id) {
-        return businessRepository.findById(id)
-                .map(business -> {
-                    businessRepository.delete(business);
-                    return ResponseEntity.ok().<Void>build();
-                })
-                .orElse(ResponseEntity.notFound().build());
+        if (!businessRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        accountDeletionService.deleteBusiness(id);
+        auditLog.record(AuditRecord.EntityType.BUSINESS, AuditRecord.Action.DELETE, id);
+        return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
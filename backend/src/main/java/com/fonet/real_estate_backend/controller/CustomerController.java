@@ -1,9 +1,16 @@
 package com.fonet.real_estate_backend.controller;
 
+import com.fonet.real_estate_backend.dto.CustomerSuggestion;
 import com.fonet.real_estate_backend.model.Customer;
 import com.fonet.real_estate_backend.repository.CustomerRepository;
+import com.fonet.real_estate_backend.service.AccountDeletionService;
+import com.fonet.real_estate_backend.service.AuditLog;
+import com.fonet.real_estate_backend.service.AuditRecord;
+import com.fonet.real_estate_backend.service.ChangeWatermarkService;
+import com.fonet.real_estate_backend.service.CustomerTypeaheadIndex;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -19,6 +26,21 @@ public class CustomerController {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private AccountDeletionService accountDeletionService;
+
+    @Autowired
+    private CustomerTypeaheadIndex customerTypeaheadIndex;
+
+    @Autowired
+    private AuditLog auditLog;
+
+    @Autowired
+    private ChangeWatermarkService changeWatermarkService;
+
+    @Value("${fonet.typeahead.max-limit:50}")
+    private int maxTypeaheadLimit;
+
     /**
      * Retrieves all customer entities from the database.
      *
@@ -54,6 +76,20 @@ public class CustomerController {
         return customerRepository.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(query, query);
     }
 
+    /**
+     * Suggests customers whose first name, last name or full name starts with the query.
+     * Served from the in-memory prefix index; matching ignores case and Turkish diacritics.
+     *
+     * @param q The typed prefix
+     * @param limit Maximum number of suggestions (capped by fonet.typeahead.max-limit)
+     * @return List of lightweight customer suggestions
+     */
+    @GetMapping("/typeahead")
+    public List<CustomerSuggestion> typeahead(@RequestParam String q,
+                                              @RequestParam(defaultValue = "10") int limit) {
+        return customerTypeaheadIndex.lookup(q, Math.min(limit, maxTypeaheadLimit));
+    }
+
     /**
      * Creates a new customer entity.
      * Validates the customer data before saving to the database.
@@ -63,12 +99,16 @@ public class CustomerController {
      */
     @PostMapping
     public Customer createCustomer(@Valid @RequestBody Customer customer) {
-        return customerRepository.save(customer);
+        Customer saved = customerRepository.save(customer);
+        customerTypeaheadIndex.put(saved);
+        auditLog.record(AuditRecord.EntityType.CUSTOMER, AuditRecord.Action.CREATE, saved.getId());
+        return saved;
     }
 
     /**
      * Updates an existing customer entity by ID.
-     * Updates all customer fields with the provided data.
+     * Updates all customer fields with the provided data. Property collections embed the owner's
+     * name, so the property watermark is bumped as well.
      *
      * @param id The ID of the customer to update
      * @param customerDetails The updated customer data
@@ -82,24 +122,30 @@ public class CustomerController {
                     customer.setLastName(customerDetails.getLastName());
                     customer.setPhoneNumber(customerDetails.getPhoneNumber());
                     customer.setAddress(customerDetails.getAddress());
-                    return ResponseEntity.ok(customerRepository.save(customer));
+                    Customer saved = customerRepository.save(customer);
+                    changeWatermarkService.bump(ChangeWatermarkService.PROPERTY);
+                    customerTypeaheadIndex.put(saved);
+                    auditLog.record(AuditRecord.EntityType.CUSTOMER, AuditRecord.Action.UPDATE, id);
+                    return ResponseEntity.ok(saved);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
-     * Deletes a customer entity by ID.
+     * Deletes a customer entity by ID together with the properties they own.
+     * Owned properties are hidden from search immediately and purged in batches.
      *
      * @param id The ID of the customer to delete
-     * @return ResponseEntity with 200 OK if deleted, or 404 Not Found if customer doesn't exist
+     * @return ResponseEntity with 200 OK if deleted, 202 Accepted if the purge continues in the background,
+     *         or 404 Not Found if customer doesn't exist
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCustomer(@PathVariable Long id) {
-        return customerRepository.findById(id)
-                .map(customer -> {
-                    customerRepository.delete(customer);
-                    return ResponseEntity.ok().<Void>build();
-                })
-                .orElse(ResponseEntity.notFound().build());
+        if (!customerRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        boolean pending = accountDeletionService.deleteCustomer(id);
+        auditLog.record(AuditRecord.EntityType.CUSTOMER, AuditRecord.Action.DELETE, id);
+        return pending ? ResponseEntity.accepted().build() : ResponseEntity.ok().build();
     }
 }
@@ -1,25 +1,66 @@
 package com.fonet.real_estate_backend.controller;
 
+import com.fonet.real_estate_backend.dto.PropertyBatchItem;
+import com.fonet.real_estate_backend.dto.PropertyBatchResult;
+import com.fonet.real_estate_backend.dto.PropertyBulkUpdateRequest;
+import com.fonet.real_estate_backend.dto.PropertyBulkUpdateResult;
 import com.fonet.real_estate_backend.dto.PropertyDTO;
+import com.fonet.real_estate_backend.dto.PropertyDetailDTO;
+import com.fonet.real_estate_backend.dto.PropertyFieldSet;
+import com.fonet.real_estate_backend.dto.PropertySearchCriteria;
 import com.fonet.real_estate_backend.model.*;
 import com.fonet.real_estate_backend.repository.*;
+import com.fonet.real_estate_backend.security.CurrentUser;
+import com.fonet.real_estate_backend.service.AuditLog;
+import com.fonet.real_estate_backend.service.AuditRecord;
+import com.fonet.real_estate_backend.service.ChangeWatermarkService;
+import com.fonet.real_estate_backend.service.IdempotencyStore;
+import com.fonet.real_estate_backend.service.ImageCleanupService;
+import com.fonet.real_estate_backend.service.LastKnownGoodCache;
+import com.fonet.real_estate_backend.service.PropertyBatchService;
+import com.fonet.real_estate_backend.service.PropertyBulkUpdateService;
+import com.fonet.real_estate_backend.service.PropertyExportService;
+import com.fonet.real_estate_backend.service.PropertySearchCoalescer;
+import com.fonet.real_estate_backend.service.PropertyStatsService;
 import com.fonet.real_estate_backend.service.PropertyService;
-import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST Controller for managing property entities.
@@ -44,65 +85,289 @@ public class PropertyController {
     @Autowired
     private PropertyService propertyService;
 
+    @Autowired
+    private PropertySearchCoalescer propertySearchCoalescer;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private PropertyStatsService propertyStatsService;
+
+    @Autowired
+    private AuditLog auditLog;
+
+    @Autowired
+    private LastKnownGoodCache lastKnownGoodCache;
+
+    @Autowired
+    private ImageCleanupService imageCleanupService;
+
+    @Autowired
+    private ChangeWatermarkService changeWatermarkService;
+
+    @Autowired
+    private PropertyExportService propertyExportService;
+
+    @Autowired
+    private PropertyBatchService propertyBatchService;
+
+    @Autowired
+    private PropertyBulkUpdateService propertyBulkUpdateService;
+
+    @Value("${fonet.batch.max-items:200}")
+    private int maxBatchItems;
+
+    @Value("${fonet.export.retry-after-seconds:30}")
+    private int exportRetryAfterSeconds;
+
     private static final String UPLOAD_DIR = "uploads/";
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    private static final String SORT_POPULARITY = "popularity";
+
+    private static final String EXPORT_SLOT_INTERCEPTOR = PropertyController.class.getName() + ".exportSlot";
+
     /**
-     * Retrieves all properties and converts them to DTOs for public display.
+     * Retrieves all active properties and converts them to DTOs for public display.
+     * Responses carry a weak ETag derived from the property change watermark, so an unchanged
+     * catalogue is answered with 304 Not Modified without querying the property table.
+     *
+     * When {@code ids} is given, only those properties are returned (archived ones included),
+     * loaded with a single query in the requested order.
+     * While the database is unavailable, the last good response for the same IDs and fields is served, marked stale.
      *
-     * @return List of PropertyDTO objects containing property information
+     * @param ids Optional comma-separated list of property IDs to fetch
+     * @param fields Optional comma-separated list of fields to return (sparse fieldset)
+     * @param webRequest Current request, used for conditional GET handling
+     * @return ResponseEntity with the list of properties, 304 Not Modified, or 400 Bad Request for
+     *         unknown fields or too many IDs
      */
     @GetMapping
-    public List<PropertyDTO> getAllProperties() {
-        List<Property> properties = propertyRepository.findAll();
-        return properties.stream()
-                .map(propertyService::convertToDTO)
-                .toList();
+    public ResponseEntity<?> getAllProperties(@RequestParam(required = false) List<Long> ids,
+                                              @RequestParam(required = false) String fields,
+                                              WebRequest webRequest) {
+        return lastKnownGoodCache.serve(LastKnownGoodCache.listKey(ids, fields),
+                () -> listProperties(ids, fields, webRequest));
+    }
+
+    private ResponseEntity<?> listProperties(List<Long> ids, String fields, WebRequest webRequest) {
+        PropertyFieldSet fieldSet;
+        try {
+            fieldSet = fields != null ? PropertyFieldSet.compile(fields) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        if (ids != null && ids.size() > maxBatchItems) {
+            return ResponseEntity.badRequest().body("At most " + maxBatchItems + " ids can be requested at once");
+        }
+
+        long watermark = changeWatermarkService.current(ChangeWatermarkService.PROPERTY);
+        String eTag = changeWatermarkService.weakETag(ChangeWatermarkService.PROPERTY, watermark);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        if (ids != null) {
+            List<?> results;
+            if (fieldSet != null) {
+                PropertySearchCriteria criteria = new PropertySearchCriteria();
+                criteria.setIds(ids);
+                criteria.setIncludeHistory(true);
+                results = propertySearchCoalescer.search(criteria, fieldSet, watermark);
+            } else {
+                results = propertyBatchService.findByIds(ids);
+            }
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(results);
+        }
+        if (fieldSet != null) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag)
+                    .body(propertySearchCoalescer.search(new PropertySearchCriteria(), fieldSet, watermark));
+        }
+        List<PropertyDTO> dtos = propertyService.findActiveProperties();
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(dtos);
     }
 
     /**
      * Retrieves a specific property by its ID.
+     * The versions of the listing, its owner and lister (plus the duplicate link) form a strong ETag:
+     * a matching If-None-Match is answered with 304 Not Modified after a version-only lookup,
+     * without loading the listing.
+     * Every request for an existing listing counts as a detail view.
+     * While the database is unavailable, the last good response for the same listing is served, marked stale.
      *
      * @param id The ID of the property to retrieve
-     * @return ResponseEntity containing the property if found, or 404 Not Found
+     * @param webRequest Current request, used for conditional GET handling
+     * @return ResponseEntity containing the property detail if found, 304 Not Modified, or 404 Not Found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Property> getPropertyById(@PathVariable Long id) {
-        return propertyRepository.findById(id)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<?> getPropertyById(@PathVariable Long id, WebRequest webRequest) {
+        return lastKnownGoodCache.serve(LastKnownGoodCache.detailKey(id), () -> findProperty(id, webRequest));
+    }
+
+    private ResponseEntity<PropertyDetailDTO> findProperty(Long id, WebRequest webRequest) {
+        String eTag = propertyService.findPropertyDetailETag(id).orElse(null);
+        if (eTag == null) {
+            return ResponseEntity.notFound().build();
+        }
+        propertyStatsService.record(id, PropertyStatsService.EventType.DETAIL_VIEW);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return propertyService.findPropertyDetail(id)
+                .map(detail -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache())
+                        .eTag(detail.getETag())
+                        .body(detail))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Records an interaction with a listing (image view or contact click) for popularity ranking.
+     * Counted in memory and written to the database in periodic batches.
+     *
+     * @param id The ID of the property
+     * @param type The interaction: DETAIL_VIEW, IMAGE_VIEW or CONTACT_CLICK
+     * @return ResponseEntity with 202 Accepted
+     */
+    @PostMapping("/{id}/events")
+    public ResponseEntity<Void> recordEvent(@PathVariable Long id,
+                                            @RequestParam PropertyStatsService.EventType type) {
+        propertyStatsService.record(id, type);
+        return ResponseEntity.accepted().build();
+    }
+
     /**
      * Searches properties based on various criteria.
      * All parameters are optional for flexible filtering.
+     * While the database is unavailable, the last good response for equivalent criteria, fields and sort
+     * is served, marked stale.
      *
-     * @param propertyType Type of property (apartment, house, etc.)
-     * @param propertyStatus Status of property (for sale, for rent, etc.)
-     * @param address Location-based search
-     * @param heatingType Heating system type
-     * @param numberOfRooms Number of rooms
-     * @param floor Floor number
-     * @param minPrice Minimum price filter
-     * @param maxPrice Maximum price filter
-     * @param minArea Minimum area filter
-     * @param maxArea Maximum area filter
-     * @return List of PropertyDTO objects matching the search criteria
+     * @param criteria Search filters bound from the query string: propertyType, propertyStatus, address,
+     *                 heatingType, numberOfRooms, floor, minPrice, maxPrice, minArea, maxArea and
+     *                 includeHistory (whether archived sold/rented listings are included) and
+     *                 collapseDuplicates (whether suspected near-duplicates of active listings are left out)
+     * @param fields Optional comma-separated list of fields to return (sparse fieldset)
+     * @param sort Optional ordering; "popularity" orders by views and contact clicks, most popular first
+     * @param webRequest Current request, used for conditional GET handling
+     * @return ResponseEntity with the properties matching the search criteria, 304 Not Modified,
+     *         or 400 Bad Request for unknown fields or sort orders
      */
     @GetMapping("/search")
-    public List<PropertyDTO> searchProperties(
-            @RequestParam(required = false) String propertyType,
-            @RequestParam(required = false) String propertyStatus,
-            @RequestParam(required = false) String address,
-            @RequestParam(required = false) String heatingType,
-            @RequestParam(required = false) String numberOfRooms,
-            @RequestParam(required = false) Integer floor,
-            @RequestParam(required = false) Double minPrice,
-            @RequestParam(required = false) Double maxPrice,
-            @RequestParam(required = false) Double minArea,
-            @RequestParam(required = false) Double maxArea
-    ) {
-        return propertyService.searchProperties(propertyType, propertyStatus, address, heatingType,
-                numberOfRooms, floor, minPrice, maxPrice, minArea, maxArea);
+    public ResponseEntity<?> searchProperties(@ModelAttribute PropertySearchCriteria criteria,
+                                              @RequestParam(required = false) String fields,
+                                              @RequestParam(required = false) String sort,
+                                              WebRequest webRequest) {
+        return lastKnownGoodCache.serve(LastKnownGoodCache.searchKey(criteria, fields, sort),
+                () -> search(criteria, fields, sort, webRequest));
+    }
+
+    private ResponseEntity<?> search(PropertySearchCriteria criteria, String fields, String sort, WebRequest webRequest) {
+        PropertyFieldSet fieldSet;
+        try {
+            fieldSet = fields != null ? PropertyFieldSet.compile(fields) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        boolean byPopularity = SORT_POPULARITY.equals(sort);
+        if (sort != null && !byPopularity) {
+            return ResponseEntity.badRequest().body("Unknown sort: " + sort + ". Allowed: " + SORT_POPULARITY);
+        }
+        if (byPopularity && fieldSet != null && !fieldSet.getPaths().contains("id")) {
+            return ResponseEntity.badRequest().body("sort=" + SORT_POPULARITY + " requires the id field");
+        }
+
+        long watermark = changeWatermarkService.current(ChangeWatermarkService.PROPERTY);
+        if (byPopularity) {
+            // Counters change without a listing write, so the watermark ETag does not cover this order.
+            List<?> results = sortByPopularity(propertySearchCoalescer.search(criteria, fieldSet, watermark));
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(results);
+        }
+        String eTag = changeWatermarkService.weakETag(ChangeWatermarkService.PROPERTY, watermark);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        List<?> results = propertySearchCoalescer.search(criteria, fieldSet, watermark);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(results);
+    }
+
+    /**
+     * Orders search results (DTOs or sparse field maps) by popularity score, most popular first.
+     * The results are shared by coalesced callers, so a sorted copy is returned.
+     */
+    private List<?> sortByPopularity(List<?> results) {
+        List<Object> sorted = new ArrayList<>(results);
+        Map<Object, Long> idOf = new IdentityHashMap<>();
+        for (Object result : sorted) {
+            idOf.put(result, result instanceof PropertyDTO dto ? dto.getId() : (Long) ((Map<?, ?>) result).get("id"));
+        }
+        Map<Long, Long> scores = propertyStatsService.scores(idOf.values());
+        sorted.sort(Comparator.comparingLong((Object result) -> scores.getOrDefault(idOf.get(result), 0L)).reversed());
+        return sorted;
+    }
+
+    /**
+     * Streams the whole catalogue as newline-delimited JSON, one PropertyDTO per line.
+     * Intended for partner feeds and batch jobs; memory use stays flat regardless of catalogue size.
+     * The stream is gzip-compressed when the client accepts it. Requires authentication; only
+     * fonet.export.max-concurrent exports run at once, further requests get 503 with Retry-After.
+     * The slot is given back when the stream ends, and also when the async request times out, fails or
+     * never starts, whichever comes first.
+     *
+     * @param includeHistory Whether archived (sold/rented) listings are included
+     * @param acceptEncoding Accept-Encoding request header
+     * @param webRequest Current request, used to hook the slot release into async processing
+     * @return ResponseEntity with the streaming NDJSON body, or 503 Service Unavailable when all export slots are busy
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProperties(
+            @RequestParam(defaultValue = "false") boolean includeHistory,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+
+        if (!propertyExportService.tryAcquireSlot()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(exportRetryAfterSeconds))
+                    .build();
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releaseSlot = () -> {
+            if (released.compareAndSet(false, true)) {
+                propertyExportService.releaseSlot();
+            }
+        };
+        // Runs when async processing ends for any reason, including a timeout, an error or a rejected task.
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(EXPORT_SLOT_INTERCEPTOR,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                        releaseSlot.run();
+                    }
+                });
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        StreamingResponseBody body = out -> {
+            try {
+                if (gzip) {
+                    try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024, true)) {
+                        propertyExportService.exportNdjson(gzipOut, includeHistory);
+                    }
+                } else {
+                    propertyExportService.exportNdjson(out, includeHistory);
+                }
+            } finally {
+                releaseSlot.run();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     /**
@@ -127,65 +392,154 @@ public class PropertyController {
 
     /**
      * Creates a new property with file uploads (images).
-     * Handles role-based logic for property ownership and listing assignments.
+     * The authenticated user becomes the lister; business users list on behalf of the given owner.
+     * With an Idempotency-Key header, retries of the same request return the original response
+     * instead of creating the listing (and its images) again.
      *
      * @param property The property data to create
      * @param files Optional array of image files to upload
-     * @param listerId ID of the user who will list the property
-     * @param ownerId ID of the customer who owns the property
-     * @return The created property entity
-     * @throws IOException if file upload fails
+     * @param listerId Ignored; kept for existing clients, the lister is always the authenticated user
+     * @param ownerId ID of the customer who owns the property (business users only)
+     * @param idempotencyKey Optional client-generated key identifying this create request
+     * @return ResponseEntity containing the created property, 400 Bad Request for an invalid owner or role,
+     *         or 422 Unprocessable Entity if the key was already used for a different request
      */
     @PostMapping(consumes = {"multipart/form-data"})
-    public Property createProperty(@Valid @RequestPart("property") Property property,
-                                   @RequestPart(value = "files", required = false) MultipartFile[] files,
-                                   @RequestParam(value = "listerId", required = false) Long listerId,
-                                   @RequestParam(value = "ownerId", required = false) Long ownerId) throws IOException {
-
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
+    public ResponseEntity<?> createProperty(@Valid @RequestPart("property") Property property,
+                                            @RequestPart(value = "files", required = false) MultipartFile[] files,
+                                            @RequestParam(value = "listerId", required = false) Long listerId,
+                                            @RequestParam(value = "ownerId", required = false) Long ownerId,
+                                            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        User user = CurrentUser.get();
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (idempotencyKey == null) {
+            return create(property, files, ownerId, user);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body("Idempotency-Key must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        return idempotencyStore.execute(user.getId(), idempotencyKey, fingerprint(property, files, ownerId),
+                () -> create(property, files, ownerId, user));
+    }
 
-        if (!Role.BUSINESS.equals(user.getRole()) && !Role.CUSTOMER.equals(user.getRole())) {
-            throw new IllegalArgumentException("Only customer or business accounts can create properties.");
+    private ResponseEntity<?> create(Property property, MultipartFile[] files, Long ownerId, User user) {
+        try {
+            Property saved = propertyService.createProperty(property, files, ownerId, user);
+            changeWatermarkService.bump(ChangeWatermarkService.PROPERTY);
+            auditLog.record(AuditRecord.EntityType.PROPERTY, AuditRecord.Action.CREATE, saved.getId());
+            return ResponseEntity.ok(saved);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            if (isMissingOwner(e)) {
+                return ResponseEntity.badRequest().body("Customer not found");
+            }
+            // Any other constraint is a server-side fault; as a 5xx it is not cached by the idempotency store.
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+    }
 
-        List<String> imageUrls = new ArrayList<>();
-        if (files != null) {
-            Path uploadPath = Paths.get(UPLOAD_DIR);
-            if (!Files.exists(uploadPath)) Files.createDirectories(uploadPath);
+    /**
+     * Tells whether a failed insert violated the property owner foreign key, i.e. the owner does not exist.
+     * Matched on the SQLSTATE and the key column, since databases baselined from Hibernate DDL use other
+     * constraint names than the default property_owner_id_fkey.
+     */
+    private static boolean isMissingOwner(DataIntegrityViolationException e) {
+        Throwable cause = e.getMostSpecificCause();
+        return cause instanceof SQLException sqlException
+                && FOREIGN_KEY_VIOLATION.equals(sqlException.getSQLState())
+                && sqlException.getMessage() != null
+                && (sqlException.getMessage().contains("property_owner_id_fkey")
+                    || sqlException.getMessage().contains("Key (owner_id)="));
+    }
 
+    /**
+     * Digest of a create request, used to detect an Idempotency-Key reused for a different request.
+     * Files are identified by name and size rather than hashed in full.
+     */
+    private static String fingerprint(Property property, MultipartFile[] files, Long ownerId) {
+        StringBuilder request = new StringBuilder(property.toString()).append('|').append(ownerId);
+        if (files != null) {
             for (MultipartFile file : files) {
-                String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-                Path filePath = uploadPath.resolve(fileName);
-                Files.copy(file.getInputStream(), filePath);
-                imageUrls.add("/" + UPLOAD_DIR + fileName);
+                request.append('|').append(file.getOriginalFilename()).append(':').append(file.getSize());
             }
         }
-        property.setImageUrls(imageUrls);
-
-        if (Role.BUSINESS.equals(user.getRole())) {
-            Customer owner = customerRepository.findById(ownerId)
-                    .orElseThrow(() -> new EntityNotFoundException("Customer not found"));
-            property.setOwner(owner);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(request.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-            Business lister = businessRepository.findByUserId(listerId)
-                    .orElseThrow(() -> new EntityNotFoundException("Lister not found"));
-            property.setLister(lister.getUser());
-        } else {
-            Customer owner = customerRepository.findByUserId(user.getId())
-                    .orElseThrow(() -> new IllegalStateException("Customer profile not found"));
-            property.setOwner(owner);
+    /**
+     * Creates and updates many properties in one request and one transaction.
+     * Entries without an id are created (owner resolved as in single creation), entries with an id
+     * update that listing. Each entry gets its own result; invalid entries do not abort the batch.
+     *
+     * @param items The entries to apply
+     * @return ResponseEntity with per-entry results in request order, 400 Bad Request if the batch is too large,
+     *         or 401 Unauthorized without an authenticated user
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> batchWriteProperties(@RequestBody List<PropertyBatchItem> items) {
+        if (items.size() > maxBatchItems) {
+            return ResponseEntity.badRequest().body("At most " + maxBatchItems + " entries are allowed per batch");
+        }
+        User user = CurrentUser.get();
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
 
-            Customer lister = customerRepository.findByUserId(listerId)
-                    .orElseThrow(() -> new EntityNotFoundException("Lister not found"));
-            property.setLister(lister.getUser());
+        List<PropertyBatchResult> results = propertyBatchService.applyBatch(items, user);
+        boolean written = false;
+        for (PropertyBatchResult result : results) {
+            if (result.getStatus() == HttpStatus.CREATED.value()) {
+                auditLog.record(AuditRecord.EntityType.PROPERTY, AuditRecord.Action.CREATE, result.getId());
+                written = true;
+            } else if (result.getStatus() == HttpStatus.OK.value()) {
+                auditLog.record(AuditRecord.EntityType.PROPERTY, AuditRecord.Action.UPDATE, result.getId());
+                written = true;
+            }
         }
+        if (written) {
+            changeWatermarkService.bump(ChangeWatermarkService.PROPERTY);
+        }
+        return ResponseEntity.ok(results);
+    }
 
-        property.setLister(user);
+    /**
+     * Changes the status or price of every listing of the current user that matches a filter.
+     * The change is applied with set-based updates in bounded batches; no listing is loaded.
+     *
+     * @param request The filter (search vocabulary plus owner ID) and the status or price change
+     * @return ResponseEntity with the IDs of all changed listings, 400 Bad Request for an invalid change,
+     *         401 Unauthorized without an authenticated user, or 500 Internal Server Error with the IDs
+     *         changed by the batches committed before a failure
+     */
+    @PostMapping(value = "/bulk-update", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> bulkUpdateProperties(@RequestBody PropertyBulkUpdateRequest request) {
+        User user = CurrentUser.get();
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
 
-        return propertyRepository.save(property);
+        try {
+            PropertyBulkUpdateResult result = propertyBulkUpdateService.apply(request, user.getId());
+            for (Long affectedId : result.getAffectedIds()) {
+                auditLog.record(AuditRecord.EntityType.PROPERTY, AuditRecord.Action.UPDATE, affectedId);
+            }
+            if (result.getError() != null) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
+            }
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     /**
@@ -212,6 +566,12 @@ public class PropertyController {
                     existingProperty.setAddress(propertyDetails.getAddress());
                     existingProperty.setDescription(propertyDetails.getDescription());
                     existingProperty.setPrice(propertyDetails.getPrice());
+                    if (propertyDetails.getPropertyStatus() != null) {
+                        existingProperty.setPropertyStatus(propertyDetails.getPropertyStatus());
+                        if (!propertyDetails.getPropertyStatus().isClosed()) {
+                            existingProperty.setArchived(false);
+                        }
+                    }
 
                     if (files != null && files.length > 0) {
                         List<String> newImageUrls = new ArrayList<>();
@@ -232,7 +592,10 @@ public class PropertyController {
                         }
                         existingProperty.setImageUrls(newImageUrls);
                     }
-                    return ResponseEntity.ok(propertyRepository.save(existingProperty));
+                    Property saved = propertyService.updateProperty(existingProperty);
+                    changeWatermarkService.bump(ChangeWatermarkService.PROPERTY);
+                    auditLog.record(AuditRecord.EntityType.PROPERTY, AuditRecord.Action.UPDATE, id);
+                    return ResponseEntity.ok(saved);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -247,7 +610,10 @@ public class PropertyController {
     public ResponseEntity<Void> deleteProperty(@PathVariable Long id) {
         return propertyRepository.findById(id)
                 .map(property -> {
-                    propertyRepository.delete(property);
+                    propertyService.deleteProperty(property);
+                    changeWatermarkService.bump(ChangeWatermarkService.PROPERTY);
+                    auditLog.record(AuditRecord.EntityType.PROPERTY, AuditRecord.Action.DELETE, id);
+                    imageCleanupService.enqueue(property.getImageUrls());
                     return ResponseEntity.ok().<Void>build();
                 })
                 .orElse(ResponseEntity.notFound().build());
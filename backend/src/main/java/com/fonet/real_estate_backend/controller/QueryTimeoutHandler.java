@@ -0,0 +1,64 @@
+package com.fonet.real_estate_backend.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Translates query deadline, connection pool exhaustion and open-circuit errors into 503 Service Unavailable
+ * with a Retry-After header, so clients back off instead of seeing a generic 500.
+ */
+@RestControllerAdvice
+public class QueryTimeoutHandler {
+
+    @Value("${fonet.query.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    /**
+     * Handles statements cancelled by their deadline (JDBC query timeout or statement_timeout).
+     *
+     * @param e The timeout exception
+     * @return 503 response with Retry-After
+     */
+    @ExceptionHandler({QueryTimeoutException.class, jakarta.persistence.QueryTimeoutException.class,
+            TransactionTimedOutException.class})
+    public ResponseEntity<String> handleQueryTimeout(RuntimeException e) {
+        return serviceUnavailable("The query took too long to complete. Please try again.");
+    }
+
+    /**
+     * Handles requests that could not obtain a database connection in time.
+     *
+     * @param e The exception raised when the transaction could not start
+     * @return 503 response with Retry-After
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<String> handleConnectionUnavailable(CannotCreateTransactionException e) {
+        return serviceUnavailable("The service is busy. Please try again.");
+    }
+
+    /**
+     * Handles reads refused by the open database circuit breaker without a cached response,
+     * and connections that could not be obtained outside a transaction.
+     *
+     * @param e The resource failure exception
+     * @return 503 response with Retry-After
+     */
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<String> handleDatabaseUnavailable(DataAccessResourceFailureException e) {
+        return serviceUnavailable("The service is temporarily unavailable. Please try again.");
+    }
+
+    private ResponseEntity<String> serviceUnavailable(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(message);
+    }
+}
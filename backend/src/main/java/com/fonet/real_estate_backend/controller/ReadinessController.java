@@ -0,0 +1,35 @@
+package com.fonet.real_estate_backend.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Readiness probe for load balancers and orchestrators.
+ * Reports Spring Boot's readiness state, which stays REFUSING_TRAFFIC until startup,
+ * including the warm-up phase, has finished.
+ */
+@RestController
+@RequestMapping("/api/health")
+public class ReadinessController {
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    /**
+     * Tells whether this instance should receive traffic.
+     *
+     * @return 200 OK with ACCEPTING_TRAFFIC, or 503 Service Unavailable with REFUSING_TRAFFIC
+     */
+    @GetMapping("/readiness")
+    public ResponseEntity<String> readiness() {
+        ReadinessState state = applicationAvailability.getReadinessState();
+        HttpStatus status = state == ReadinessState.ACCEPTING_TRAFFIC ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(state.name());
+    }
+}
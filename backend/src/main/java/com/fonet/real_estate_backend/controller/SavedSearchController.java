@@ -0,0 +1,137 @@
+package com.fonet.real_estate_backend.controller;
+
+import com.fonet.real_estate_backend.model.SavedSearch;
+import com.fonet.real_estate_backend.model.User;
+import com.fonet.real_estate_backend.payload.StreamTokenResponse;
+import com.fonet.real_estate_backend.repository.SavedSearchRepository;
+import com.fonet.real_estate_backend.security.CurrentUser;
+import com.fonet.real_estate_backend.security.JwtUtils;
+import com.fonet.real_estate_backend.service.SavedSearchNotifier;
+import com.fonet.real_estate_backend.service.SavedSearchPercolator;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * REST Controller for the saved searches of the current user.
+ * Saved searches use the filters of /api/properties/search; new and updated listings that match
+ * them are pushed to the user's event stream.
+ */
+@RestController
+@RequestMapping("/api/saved-searches")
+public class SavedSearchController {
+
+    @Autowired
+    private SavedSearchRepository savedSearchRepository;
+
+    @Autowired
+    private SavedSearchPercolator savedSearchPercolator;
+
+    @Autowired
+    private SavedSearchNotifier savedSearchNotifier;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    /**
+     * Retrieves the saved searches of the current user.
+     *
+     * @return ResponseEntity with the user's saved searches, or 401 Unauthorized
+     */
+    @GetMapping
+    public ResponseEntity<List<SavedSearch>> getSavedSearches() {
+        User user = CurrentUser.get();
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(savedSearchRepository.findByUser_Id(user.getId()));
+    }
+
+    /**
+     * Saves a search for the current user and starts matching new listings against it.
+     *
+     * @param savedSearch The name and filters of the search (validated)
+     * @return ResponseEntity with the created saved search, 400 Bad Request for inverted ranges, or 401 Unauthorized
+     */
+    @PostMapping
+    public ResponseEntity<?> createSavedSearch(@Valid @RequestBody SavedSearch savedSearch) {
+        User user = CurrentUser.get();
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (isInverted(savedSearch.getMinPrice(), savedSearch.getMaxPrice())
+                || isInverted(savedSearch.getMinArea(), savedSearch.getMaxArea())) {
+            return ResponseEntity.badRequest().body("Minimum must not exceed maximum");
+        }
+        savedSearch.setId(null);
+        savedSearch.setUser(user);
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        savedSearchPercolator.put(saved);
+        return ResponseEntity.ok(saved);
+    }
+
+    /**
+     * Deletes one of the current user's saved searches.
+     *
+     * @param id The ID of the saved search
+     * @return ResponseEntity with 200 OK if deleted, or 404 Not Found if it does not exist or belongs to another user
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable Long id) {
+        User user = CurrentUser.get();
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return savedSearchRepository.findByIdAndUser_Id(id, user.getId())
+                .map(savedSearch -> {
+                    savedSearchRepository.delete(savedSearch);
+                    savedSearchPercolator.remove(id);
+                    return ResponseEntity.ok().<Void>build();
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Issues a short-lived token for opening the event stream from a browser.
+     * EventSource cannot send the Authorization header, so the client fetches this token with its
+     * login token and opens /stream?token=...; fetch-based clients may use the header instead.
+     *
+     * @return ResponseEntity with the stream token and its lifetime, or 401 Unauthorized
+     */
+    @PostMapping("/stream-token")
+    public ResponseEntity<StreamTokenResponse> createStreamToken() {
+        User user = CurrentUser.get();
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(new StreamTokenResponse(jwtUtils.generateStreamToken(user.getEmail()),
+                jwtUtils.getStreamTokenExpirationMs()));
+    }
+
+    /**
+     * Opens a server-sent event stream of listings matching the current user's saved searches.
+     * Matches are delivered in batches as "matches" events carrying a JSON array.
+     * Authenticated by the Authorization header or by a token from /stream-token in the token
+     * query parameter; the token is only checked when the stream opens.
+     *
+     * @return The event stream, or 401 Unauthorized
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMatches() {
+        User user = CurrentUser.get();
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(savedSearchNotifier.subscribe(user.getId()));
+    }
+
+    private static boolean isInverted(Double min, Double max) {
+        return min != null && max != null && min > max;
+    }
+}
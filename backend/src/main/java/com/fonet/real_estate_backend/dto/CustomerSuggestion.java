@@ -0,0 +1,17 @@
+package com.fonet.real_estate_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight customer entry returned by the typeahead endpoint.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerSuggestion {
+    private Long id;
+    private String firstName;
+    private String lastName;
+}
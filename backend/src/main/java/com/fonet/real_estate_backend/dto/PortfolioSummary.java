@@ -0,0 +1,37 @@
+package com.fonet.real_estate_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Dashboard summary of the listings a business user has published: totals, breakdowns by
+ * status and by type, and one page of the most recent listings.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioSummary {
+    private long totalCount;
+    private double totalValue;
+    private List<Bucket> byStatus;
+    private List<Bucket> byType;
+    private List<PropertyDTO> recent;
+    private int page;
+    private int size;
+    private boolean hasMore;
+
+    /**
+     * Count and summed price of the listings in one group.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private String key;
+        private long count;
+        private double value;
+    }
+}
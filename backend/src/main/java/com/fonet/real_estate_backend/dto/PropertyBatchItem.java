@@ -0,0 +1,23 @@
+package com.fonet.real_estate_backend.dto;
+
+import com.fonet.real_estate_backend.model.Property;
+import lombok.Data;
+
+/**
+ * One entry of a batch property write.
+ * Entries without an id create a listing; entries with an id update that listing.
+ */
+@Data
+public class PropertyBatchItem {
+    /**
+     * ID of the property to update, or null to create a new one.
+     */
+    private Long id;
+
+    /**
+     * ID of the owning customer; required when a business account creates a listing.
+     */
+    private Long ownerId;
+
+    private Property property;
+}
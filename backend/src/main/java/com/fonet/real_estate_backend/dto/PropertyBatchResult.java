@@ -0,0 +1,18 @@
+package com.fonet.real_estate_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one entry of a batch property write, reported in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyBatchResult {
+    private int index;
+    private Long id;
+    private int status;
+    private String error;
+}
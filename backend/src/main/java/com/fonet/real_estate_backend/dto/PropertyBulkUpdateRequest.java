@@ -0,0 +1,29 @@
+package com.fonet.real_estate_backend.dto;
+
+import com.fonet.real_estate_backend.model.PropertyStatus;
+import lombok.Data;
+
+/**
+ * Request payload for a bulk status or price change.
+ * The filter uses the same vocabulary as the property search, plus owner and lister IDs;
+ * at least one of the changes must be given. An empty filter is only accepted together with allListings.
+ */
+@Data
+public class PropertyBulkUpdateRequest {
+    private PropertySearchCriteria filter = new PropertySearchCriteria();
+
+    /**
+     * Confirms that an empty filter is meant to change every listing of the user.
+     */
+    private boolean allListings;
+
+    /**
+     * New status for every matching listing.
+     */
+    private PropertyStatus newStatus;
+
+    /**
+     * Relative price change in percent, e.g. -5 for a 5% reduction.
+     */
+    private Double priceChangePercent;
+}
@@ -0,0 +1,25 @@
+package com.fonet.real_estate_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response payload of a bulk update: the IDs of every listing that was changed,
+ * so that dependent caches and indexes can be invalidated.
+ * A bulk update that fails after some batches were committed reports those with an error.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyBulkUpdateResult {
+    private List<Long> affectedIds;
+    private int batches;
+
+    /**
+     * Why the update stopped early, or null if every matching listing was changed.
+     */
+    private String error;
+}
@@ -28,5 +28,10 @@ public class PropertyDTO {
 
     private Long ownerId;
     private String ownerName;
+
+    /**
+     * ID of the listing this one is a suspected near-duplicate of, or null.
+     */
+    private Long duplicateOf;
 }
 
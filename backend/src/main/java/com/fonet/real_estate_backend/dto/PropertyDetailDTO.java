@@ -0,0 +1,36 @@
+package com.fonet.real_estate_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the property detail page.
+ * Extends the list view with the lister and the entity version.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class PropertyDetailDTO extends PropertyDTO {
+    private Long version;
+    private Lister lister;
+
+    /**
+     * Strong ETag over the listing version and everything else the body embeds.
+     */
+    @JsonIgnore
+    private String eTag;
+
+    /**
+     * Minimal view of the user who listed the property.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lister {
+        private Long id;
+        private String email;
+        private String role;
+    }
+}
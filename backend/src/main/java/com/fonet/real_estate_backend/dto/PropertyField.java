@@ -0,0 +1,73 @@
+package com.fonet.real_estate_backend.dto;
+
+import com.fonet.real_estate_backend.model.NumberOfRooms;
+
+import java.util.List;
+
+/**
+ * Attributes of PropertyDTO that can be requested through the {@code fields=} parameter.
+ * Each field names the entity attribute paths it needs in the SELECT list and how to turn
+ * those column values into its JSON value.
+ */
+public enum PropertyField {
+    ID("id", "id"),
+    PROPERTY_TYPE("propertyType", "propertyType"),
+    AREA("area", "area"),
+    NUMBER_OF_ROOMS("numberOfRooms", "numberOfRooms") {
+        @Override
+        public Object value(Object[] columns) {
+            return columns[0] != null ? ((NumberOfRooms) columns[0]).name() : null;
+        }
+    },
+    FLOOR("floor", "floor"),
+    HEATING_TYPE("heatingType", "heatingType"),
+    ADDRESS("address", "address"),
+    DESCRIPTION("description", "description"),
+    PRICE("price", "price"),
+    PROPERTY_STATUS("propertyStatus", "propertyStatus"),
+    IMAGE_URLS("imageUrls", "imageUrls"),
+    /**
+     * First image of the gallery, for cards that only show a thumbnail.
+     */
+    COVER_IMAGE_URL("coverImageUrl", "imageUrls") {
+        @Override
+        public Object value(Object[] columns) {
+            List<?> images = (List<?>) columns[0];
+            return images != null && !images.isEmpty() ? images.get(0) : null;
+        }
+    },
+    DUPLICATE_OF("duplicateOf", "duplicateOf"),
+    OWNER_ID("ownerId", "owner.id"),
+    OWNER_NAME("ownerName", "owner.firstName", "owner.lastName") {
+        @Override
+        public Object value(Object[] columns) {
+            return columns[0] != null ? columns[0] + " " + columns[1] : null;
+        }
+    };
+
+    private final String jsonName;
+    private final List<String> paths;
+
+    PropertyField(String jsonName, String... paths) {
+        this.jsonName = jsonName;
+        this.paths = List.of(paths);
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Entity attribute paths selected for this field, relative to Property ("owner." paths go through the owner join).
+     */
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Builds the JSON value from the selected columns, given in the order of {@link #getPaths()}.
+     */
+    public Object value(Object[] columns) {
+        return columns[0];
+    }
+}
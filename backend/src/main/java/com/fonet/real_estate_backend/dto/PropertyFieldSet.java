@@ -0,0 +1,139 @@
+package com.fonet.real_estate_backend.dto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled shape of a {@code fields=} parameter: the requested fields, the de-duplicated SELECT
+ * paths they need and, per field, where its columns sit in a result row.
+ * Shapes are immutable and cached by their raw parameter value, so repeated requests reuse
+ * the same instance without parsing.
+ */
+public final class PropertyFieldSet {
+
+    private static final int MAX_CACHED_SHAPES = 256;
+
+    private static final Map<String, PropertyField> FIELDS_BY_NAME = new HashMap<>();
+
+    static {
+        for (PropertyField field : PropertyField.values()) {
+            FIELDS_BY_NAME.put(field.getJsonName(), field);
+        }
+    }
+
+    private static final Map<String, PropertyFieldSet> COMPILED = new ConcurrentHashMap<>();
+
+    private final PropertyField[] fields;
+    private final List<String> paths;
+    private final int[][] columnIndexes;
+    private final boolean joinsOwner;
+
+    private PropertyFieldSet(Set<PropertyField> requested) {
+        this.fields = requested.toArray(new PropertyField[0]);
+        List<String> selectPaths = new ArrayList<>();
+        this.columnIndexes = new int[fields.length][];
+        for (int i = 0; i < fields.length; i++) {
+            List<String> fieldPaths = fields[i].getPaths();
+            columnIndexes[i] = new int[fieldPaths.size()];
+            for (int j = 0; j < fieldPaths.size(); j++) {
+                int index = selectPaths.indexOf(fieldPaths.get(j));
+                if (index < 0) {
+                    index = selectPaths.size();
+                    selectPaths.add(fieldPaths.get(j));
+                }
+                columnIndexes[i][j] = index;
+            }
+        }
+        this.paths = Collections.unmodifiableList(selectPaths);
+        this.joinsOwner = selectPaths.stream().anyMatch(path -> path.startsWith("owner.") && !path.equals("owner.id"));
+    }
+
+    /**
+     * Returns the compiled shape for a comma-separated field list.
+     *
+     * @param fields Comma-separated JSON field names, e.g. "id,price,address,coverImageUrl"
+     * @return The compiled field set
+     * @throws IllegalArgumentException if the list is empty or names an unknown field
+     */
+    public static PropertyFieldSet compile(String fields) {
+        PropertyFieldSet cached = COMPILED.get(fields);
+        if (cached != null) {
+            return cached;
+        }
+        Set<PropertyField> requested = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            PropertyField field = FIELDS_BY_NAME.get(trimmed);
+            if (field == null) {
+                throw new IllegalArgumentException("Unknown field: " + trimmed + ". Allowed fields: " + FIELDS_BY_NAME.keySet());
+            }
+            requested.add(field);
+        }
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested");
+        }
+        PropertyFieldSet compiled = new PropertyFieldSet(requested);
+        if (COMPILED.size() < MAX_CACHED_SHAPES) {
+            COMPILED.putIfAbsent(fields, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Attribute paths to select, in result column order.
+     */
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Whether any selected path needs a join to the owner (owner.id is read from the foreign key).
+     */
+    public boolean joinsOwner() {
+        return joinsOwner;
+    }
+
+    /**
+     * Converts one result row into the JSON object of the requested fields.
+     *
+     * @param row Column values in the order of {@link #getPaths()}
+     * @return Ordered map of field name to value
+     */
+    public Map<String, Object> toMap(Object[] row) {
+        Map<String, Object> result = new LinkedHashMap<>(fields.length * 2);
+        for (int i = 0; i < fields.length; i++) {
+            int[] indexes = columnIndexes[i];
+            Object[] columns = new Object[indexes.length];
+            for (int j = 0; j < indexes.length; j++) {
+                columns[j] = row[indexes[j]];
+            }
+            result.put(fields[i].getJsonName(), fields[i].value(columns));
+        }
+        return result;
+    }
+
+    /**
+     * Field sets are equal when they return the same fields in the same order,
+     * whichever raw parameter value they were compiled from.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof PropertyFieldSet other && Arrays.equals(fields, other.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(fields);
+    }
+}
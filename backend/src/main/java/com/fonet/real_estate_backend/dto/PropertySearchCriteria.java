@@ -0,0 +1,63 @@
+package com.fonet.real_estate_backend.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Filter parameters of the property search, bound from the /api/properties/search query string.
+ * All filters are optional; enum filters accept the constant name (and, for rooms, the label).
+ */
+@Data
+public class PropertySearchCriteria {
+    private String propertyType;
+    private String propertyStatus;
+    private String address;
+    private String heatingType;
+    private String numberOfRooms;
+    private Integer floor;
+    private Double minPrice;
+    private Double maxPrice;
+    private Double minArea;
+    private Double maxArea;
+
+    /**
+     * Restricts the result to these property IDs.
+     */
+    private List<Long> ids;
+
+    /**
+     * Restricts the result to properties owned by this customer.
+     */
+    private Long ownerId;
+
+    /**
+     * Restricts the result to properties listed by this user.
+     */
+    private Long listerId;
+
+    /**
+     * Whether archived (sold/rented) listings are included.
+     */
+    private boolean includeHistory;
+
+    /**
+     * Whether suspected near-duplicates of another active listing are left out.
+     */
+    private boolean collapseDuplicates;
+
+    /**
+     * Tells whether any filter narrows the result; the includeHistory and collapseDuplicates flags do not count.
+     *
+     * @return true if at least one filter is set
+     */
+    public boolean hasFilters() {
+        return isSet(propertyType) || isSet(propertyStatus) || isSet(address) || isSet(heatingType)
+                || isSet(numberOfRooms) || floor != null || minPrice != null || maxPrice != null
+                || minArea != null || maxArea != null || ids != null || ownerId != null || listerId != null;
+    }
+
+    private static boolean isSet(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
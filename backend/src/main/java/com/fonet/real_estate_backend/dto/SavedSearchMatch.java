@@ -0,0 +1,23 @@
+package com.fonet.real_estate_backend.dto;
+
+import com.fonet.real_estate_backend.model.PropertyStatus;
+import com.fonet.real_estate_backend.model.PropertyType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Notification that a listing matched one of the user's saved searches.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchMatch {
+    private Long savedSearchId;
+    private Long propertyId;
+    private PropertyType propertyType;
+    private PropertyStatus propertyStatus;
+    private String address;
+    private Double price;
+    private Double area;
+}
@@ -0,0 +1,9 @@
+package com.fonet.real_estate_backend.model;
+
+/**
+ * Enum whose constants carry a stable small-integer code used as their persisted form.
+ * Codes must never be reused or renumbered once written to the database.
+ */
+public interface CodedEnum {
+    short getCode();
+}
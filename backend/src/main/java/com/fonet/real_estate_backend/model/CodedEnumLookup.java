@@ -0,0 +1,78 @@
+package com.fonet.real_estate_backend.model;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Precomputed code and name/label lookup tables for a {@link CodedEnum}.
+ * Built once per enum so that request parsing and row mapping are plain array and map reads
+ * instead of {@code valueOf} calls with exception handling.
+ *
+ * @param <E> the enum type
+ */
+public final class CodedEnumLookup<E extends Enum<E> & CodedEnum> {
+
+    private final E[] byCode;
+    private final Map<String, E> byValue;
+
+    private CodedEnumLookup(E[] constants, Function<E, String> label) {
+        int maxCode = 0;
+        for (E constant : constants) {
+            maxCode = Math.max(maxCode, constant.getCode());
+        }
+        @SuppressWarnings("unchecked")
+        E[] table = (E[]) Array.newInstance(constants.getClass().getComponentType(), maxCode + 1);
+        this.byCode = table;
+        this.byValue = new HashMap<>();
+        for (E constant : constants) {
+            if (byCode[constant.getCode()] != null) {
+                throw new IllegalStateException("Duplicate code " + constant.getCode() + " in " + constant.getDeclaringClass());
+            }
+            byCode[constant.getCode()] = constant;
+            byValue.put(normalize(constant.name()), constant);
+            if (label != null) {
+                byValue.put(normalize(label.apply(constant)), constant);
+            }
+        }
+    }
+
+    public static <E extends Enum<E> & CodedEnum> CodedEnumLookup<E> of(E[] constants) {
+        return new CodedEnumLookup<>(constants, null);
+    }
+
+    public static <E extends Enum<E> & CodedEnum> CodedEnumLookup<E> of(E[] constants, Function<E, String> label) {
+        return new CodedEnumLookup<>(constants, label);
+    }
+
+    /**
+     * Resolves a persisted code.
+     *
+     * @param code The stored code
+     * @return The matching constant
+     * @throws IllegalArgumentException if no constant has this code
+     */
+    public E fromCode(short code) {
+        E constant = code >= 0 && code < byCode.length ? byCode[code] : null;
+        if (constant == null) {
+            throw new IllegalArgumentException("Unknown code: " + code);
+        }
+        return constant;
+    }
+
+    /**
+     * Resolves a constant name or label, ignoring case and surrounding whitespace.
+     *
+     * @param value The name or label to resolve
+     * @return The matching constant, or null if the value is null or unknown
+     */
+    public E fromValue(String value) {
+        return value == null ? null : byValue.get(normalize(value));
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toUpperCase(Locale.ROOT);
+    }
+}
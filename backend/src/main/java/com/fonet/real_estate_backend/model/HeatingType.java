@@ -0,0 +1,28 @@
+package com.fonet.real_estate_backend.model;
+
+import lombok.Getter;
+
+@Getter
+public enum HeatingType implements CodedEnum {
+    NATURAL_GAS(1),
+    CENTRAL_HEATING(2),
+    AIR_CONDITIONING(3),
+    ELECTRIC(4),
+    STOVE(5);
+
+    private static final CodedEnumLookup<HeatingType> LOOKUP = CodedEnumLookup.of(values());
+
+    private final short code;
+
+    HeatingType(int code) {
+        this.code = (short) code;
+    }
+
+    public static HeatingType fromCode(short code) {
+        return LOOKUP.fromCode(code);
+    }
+
+    public static HeatingType fromValue(String value) {
+        return LOOKUP.fromValue(value);
+    }
+}
@@ -1,24 +1,57 @@
 package com.fonet.real_estate_backend.model;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 @Getter
-public enum NumberOfRooms {
-    ONE_PLUS_ONE("1+1"),
-    TWO_PLUS_ONE("2+1"),
-    THREE_PLUS_ONE("3+1"),
-    FOUR_PLUS_ONE("4+1"),
-    FIVE_PLUS_ONE("5+1"),
-    SIX_PLUS_ONE("6+1"),
-    SEVEN_PLUS_ONE("7+1"),
-    EIGHT_PLUS_ONE("8+1"),
-    NINE_PLUS_ONE("9+1"),
-    TEN_PLUS_ONE("10+1");
+public enum NumberOfRooms implements CodedEnum {
+    ONE_PLUS_ONE(1, "1+1"),
+    TWO_PLUS_ONE(2, "2+1"),
+    THREE_PLUS_ONE(3, "3+1"),
+    FOUR_PLUS_ONE(4, "4+1"),
+    FIVE_PLUS_ONE(5, "5+1"),
+    SIX_PLUS_ONE(6, "6+1"),
+    SEVEN_PLUS_ONE(7, "7+1"),
+    EIGHT_PLUS_ONE(8, "8+1"),
+    NINE_PLUS_ONE(9, "9+1"),
+    TEN_PLUS_ONE(10, "10+1");
 
+    private static final CodedEnumLookup<NumberOfRooms> LOOKUP = CodedEnumLookup.of(values(), NumberOfRooms::getLabel);
+
+    private final short code;
     private final String label;
 
-    NumberOfRooms(String label) {
+    NumberOfRooms(int code, String label) {
+        this.code = (short) code;
         this.label = label;
     }
 
+    public static NumberOfRooms fromCode(short code) {
+        return LOOKUP.fromCode(code);
+    }
+
+    /**
+     * Resolves either the constant name ("THREE_PLUS_ONE") or its label ("3+1").
+     */
+    public static NumberOfRooms fromValue(String value) {
+        return LOOKUP.fromValue(value);
+    }
+
+    /**
+     * JSON binding; accepts the label as well, as sent by clients holding responses from before
+     * the wire format went back to the constant name.
+     *
+     * @throws IllegalArgumentException if the value is neither a name nor a label
+     */
+    @JsonCreator
+    public static NumberOfRooms fromJson(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        NumberOfRooms rooms = fromValue(value);
+        if (rooms == null) {
+            throw new IllegalArgumentException("Unknown number of rooms: " + value);
+        }
+        return rooms;
+    }
 }
@@ -2,7 +2,12 @@ package com.fonet.real_estate_backend.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fonet.real_estate_backend.model.converter.HeatingTypeConverter;
+import com.fonet.real_estate_backend.model.converter.NumberOfRoomsConverter;
+import com.fonet.real_estate_backend.model.converter.PropertyStatusConverter;
+import com.fonet.real_estate_backend.model.converter.PropertyTypeConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
@@ -10,32 +15,47 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.type.SqlTypes;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
+@SQLRestriction("NOT deleted")
 public class Property {
 
+    /**
+     * Sequence-generated (allocation size 50) so Hibernate can batch inserts; IDENTITY disables insert batching.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "property_seq")
+    @SequenceGenerator(name = "property_seq", sequenceName = "property_seq", allocationSize = 50)
     private Long id;
 
-    @Enumerated(EnumType.STRING)
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    @Convert(converter = PropertyTypeConverter.class)
     private PropertyType propertyType;
 
     @Positive(message = "The field must be a positive value")
     private double area;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = NumberOfRoomsConverter.class)
     private NumberOfRooms numberOfRooms;
 
     @Positive(message = "The field must be a positive value")
     private int floor;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = HeatingTypeConverter.class)
     private HeatingType heatingType;
 
     @NotBlank(message = "Address cannot be blank")
@@ -49,13 +69,37 @@ public class Property {
     @Positive(message = "The field must be a positive value")
     private double price;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = PropertyStatusConverter.class)
     private PropertyStatus propertyStatus;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "property_image_urls", joinColumns = @JoinColumn(name = "property_id"))
-    @Column(name = "image_urls")
-    private List<String> imageUrls;
+    /**
+     * Set by the archiver once a SOLD/RENTED listing leaves the active search set.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private boolean archived;
+
+    /**
+     * Tombstone set when the owning customer is deleted. Tombstoned rows are excluded from every
+     * entity read and are never written through JPA, so no save can clear the flag.
+     */
+    @Column(insertable = false, updatable = false)
+    @JsonIgnore
+    private boolean deleted;
+
+    /**
+     * ID of the listing this one is a suspected near-duplicate of, set by DuplicateListingIndex.
+     */
+    @Column(name = "duplicate_of")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long duplicateOf;
+
+    /**
+     * Ordered gallery stored inline as a PostgreSQL text[] column, so reading a listing
+     * needs no extra query and replacing images is part of the single row UPDATE.
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "image_urls", columnDefinition = "text[]", nullable = false)
+    private List<String> imageUrls = new ArrayList<>();
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
@@ -0,0 +1,34 @@
+package com.fonet.real_estate_backend.model;
+
+import lombok.Getter;
+
+@Getter
+public enum PropertyStatus implements CodedEnum {
+    FOR_SALE(1),
+    FOR_RENT(2),
+    SOLD(3),
+    RENTED(4);
+
+    private static final CodedEnumLookup<PropertyStatus> LOOKUP = CodedEnumLookup.of(values());
+
+    private final short code;
+
+    PropertyStatus(int code) {
+        this.code = (short) code;
+    }
+
+    /**
+     * Closed listings are moved out of the active search set by the archiver.
+     */
+    public boolean isClosed() {
+        return this == SOLD || this == RENTED;
+    }
+
+    public static PropertyStatus fromCode(short code) {
+        return LOOKUP.fromCode(code);
+    }
+
+    public static PropertyStatus fromValue(String value) {
+        return LOOKUP.fromValue(value);
+    }
+}
@@ -1,9 +1,28 @@
 package com.fonet.real_estate_backend.model;
 
-public enum PropertyType {
-    APARTMENT,
-    HOUSE,
-    VILLA,
-    OFFICE,
-    OTHER
-}
\ No newline at end of file
+import lombok.Getter;
+
+@Getter
+public enum PropertyType implements CodedEnum {
+    APARTMENT(1),
+    HOUSE(2),
+    VILLA(3),
+    OFFICE(4),
+    OTHER(5);
+
+    private static final CodedEnumLookup<PropertyType> LOOKUP = CodedEnumLookup.of(values());
+
+    private final short code;
+
+    PropertyType(int code) {
+        this.code = (short) code;
+    }
+
+    public static PropertyType fromCode(short code) {
+        return LOOKUP.fromCode(code);
+    }
+
+    public static PropertyType fromValue(String value) {
+        return LOOKUP.fromValue(value);
+    }
+}
@@ -0,0 +1,59 @@
+package com.fonet.real_estate_backend.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fonet.real_estate_backend.model.converter.HeatingTypeConverter;
+import com.fonet.real_estate_backend.model.converter.NumberOfRoomsConverter;
+import com.fonet.real_estate_backend.model.converter.PropertyStatusConverter;
+import com.fonet.real_estate_backend.model.converter.PropertyTypeConverter;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Search filters a user saved to be notified about new and updated listings that match them.
+ * Uses the filter vocabulary of /api/properties/search; unset filters match everything.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @JsonIgnore
+    private User user;
+
+    @NotBlank(message = "Name cannot be blank")
+    @Size(max = 100, message = "Name must be at most 100 characters")
+    private String name;
+
+    @Convert(converter = PropertyTypeConverter.class)
+    private PropertyType propertyType;
+
+    @Convert(converter = PropertyStatusConverter.class)
+    private PropertyStatus propertyStatus;
+
+    @Convert(converter = HeatingTypeConverter.class)
+    private HeatingType heatingType;
+
+    @Convert(converter = NumberOfRoomsConverter.class)
+    private NumberOfRooms numberOfRooms;
+
+    private Integer floor;
+
+    @Size(max = 255, message = "Address must be at most 255 characters")
+    private String address;
+
+    private Double minPrice;
+    private Double maxPrice;
+    private Double minArea;
+    private Double maxArea;
+}
@@ -19,6 +19,13 @@ public class User {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Folded into the ETag of the property detail, which embeds the lister's email and role.
+     */
+    @Version
+    @JsonIgnore
+    private Long version;
+
     private String email;
     @JsonIgnore
     private String password;
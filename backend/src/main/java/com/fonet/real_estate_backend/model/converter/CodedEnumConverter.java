@@ -0,0 +1,30 @@
+package com.fonet.real_estate_backend.model.converter;
+
+import com.fonet.real_estate_backend.model.CodedEnum;
+import jakarta.persistence.AttributeConverter;
+
+import java.util.function.Function;
+
+/**
+ * Base JPA converter that persists a {@link CodedEnum} as its SMALLINT code.
+ *
+ * @param <E> the enum type
+ */
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Short> {
+
+    private final Function<Short, E> fromCode;
+
+    protected CodedEnumConverter(Function<Short, E> fromCode) {
+        this.fromCode = fromCode;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(E attribute) {
+        return attribute != null ? attribute.getCode() : null;
+    }
+
+    @Override
+    public E convertToEntityAttribute(Short code) {
+        return code != null ? fromCode.apply(code) : null;
+    }
+}
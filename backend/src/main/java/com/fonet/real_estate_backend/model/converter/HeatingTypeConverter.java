@@ -0,0 +1,11 @@
+package com.fonet.real_estate_backend.model.converter;
+
+import com.fonet.real_estate_backend.model.HeatingType;
+import jakarta.persistence.Converter;
+
+@Converter
+public class HeatingTypeConverter extends CodedEnumConverter<HeatingType> {
+    public HeatingTypeConverter() {
+        super(HeatingType::fromCode);
+    }
+}
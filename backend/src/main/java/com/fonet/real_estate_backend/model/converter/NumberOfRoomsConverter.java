@@ -0,0 +1,11 @@
+package com.fonet.real_estate_backend.model.converter;
+
+import com.fonet.real_estate_backend.model.NumberOfRooms;
+import jakarta.persistence.Converter;
+
+@Converter
+public class NumberOfRoomsConverter extends CodedEnumConverter<NumberOfRooms> {
+    public NumberOfRoomsConverter() {
+        super(NumberOfRooms::fromCode);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fonet.real_estate_backend.model.converter;
+
+import com.fonet.real_estate_backend.model.PropertyStatus;
+import jakarta.persistence.Converter;
+
+@Converter
+public class PropertyStatusConverter extends CodedEnumConverter<PropertyStatus> {
+    public PropertyStatusConverter() {
+        super(PropertyStatus::fromCode);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fonet.real_estate_backend.model.converter;
+
+import com.fonet.real_estate_backend.model.PropertyType;
+import jakarta.persistence.Converter;
+
+@Converter
+public class PropertyTypeConverter extends CodedEnumConverter<PropertyType> {
+    public PropertyTypeConverter() {
+        super(PropertyType::fromCode);
+    }
+}
@@ -0,0 +1,16 @@
+package com.fonet.real_estate_backend.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Response payload for a short-lived event-stream token.
+ * The token is passed as the token query parameter when opening the stream with EventSource,
+ * which cannot send an Authorization header.
+ */
+@Data
+@AllArgsConstructor
+public class StreamTokenResponse {
+    private String token;
+    private long expiresInMs;
+}
@@ -19,4 +19,12 @@ public interface BusinessRepository extends JpaRepository<Business, Long> {
      * @return Optional containing the business if found, empty otherwise
      */
     Optional<Business> findByUserId(Long id);
+
+    /**
+     * Checks whether a user has a business profile, without loading it.
+     *
+     * @param id The user ID
+     * @return true if a business profile exists for the user
+     */
+    boolean existsByUserId(Long id);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.fonet.real_estate_backend.repository;
 
 import com.fonet.real_estate_backend.model.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,6 +22,15 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
      */
     Optional<Customer> findByUserId(Long userId);
 
+    /**
+     * Finds only the ID of the customer profile of a user, without loading the entity.
+     *
+     * @param userId The user ID associated with the customer
+     * @return Optional containing the customer ID if found, empty otherwise
+     */
+    @Query("SELECT c.id FROM Customer c WHERE c.user.id = :userId")
+    Optional<Long> findIdByUserId(Long userId);
+
     /**
      * Searches customers by first name or last name (case-insensitive).
      * Performs a partial match search on both first and last name fields.
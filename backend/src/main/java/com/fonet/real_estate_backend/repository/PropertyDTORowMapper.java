@@ -0,0 +1,70 @@
+package com.fonet.real_estate_backend.repository;
+
+import com.fonet.real_estate_backend.dto.PropertyDTO;
+import com.fonet.real_estate_backend.model.HeatingType;
+import com.fonet.real_estate_backend.model.NumberOfRooms;
+import com.fonet.real_estate_backend.model.PropertyStatus;
+import com.fonet.real_estate_backend.model.PropertyType;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Maps property rows straight to PropertyDTO without going through the persistence context.
+ * Used by read paths that stream or bulk-load listings with plain JDBC.
+ */
+public class PropertyDTORowMapper implements RowMapper<PropertyDTO> {
+
+    /**
+     * Select list and join expected by this mapper; callers append their WHERE/ORDER BY.
+     */
+    public static final String SELECT = """
+            SELECT p.id, p.property_type, p.area, p.number_of_rooms, p.floor, p.heating_type,
+                   p.address, p.description, p.price, p.property_status, p.image_urls, p.duplicate_of,
+                   p.owner_id, c.first_name AS owner_first_name, c.last_name AS owner_last_name
+            FROM property p
+            LEFT JOIN customer c ON c.id = p.owner_id
+            """;
+
+    public static final PropertyDTORowMapper INSTANCE = new PropertyDTORowMapper();
+
+    @Override
+    public PropertyDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+        PropertyDTO dto = new PropertyDTO();
+        dto.setId(rs.getLong("id"));
+        Short propertyType = getCode(rs, "property_type");
+        dto.setPropertyType(propertyType != null ? PropertyType.fromCode(propertyType) : null);
+        dto.setArea(rs.getDouble("area"));
+        Short numberOfRooms = getCode(rs, "number_of_rooms");
+        dto.setNumberOfRooms(numberOfRooms != null ? NumberOfRooms.fromCode(numberOfRooms).name() : null);
+        dto.setFloor(rs.getInt("floor"));
+        Short heatingType = getCode(rs, "heating_type");
+        dto.setHeatingType(heatingType != null ? HeatingType.fromCode(heatingType) : null);
+        dto.setAddress(rs.getString("address"));
+        dto.setDescription(rs.getString("description"));
+        dto.setPrice(rs.getDouble("price"));
+        Short propertyStatus = getCode(rs, "property_status");
+        dto.setPropertyStatus(propertyStatus != null ? PropertyStatus.fromCode(propertyStatus) : null);
+
+        Array images = rs.getArray("image_urls");
+        dto.setImageUrls(images != null ? List.of((String[]) images.getArray()) : List.of());
+
+        long duplicateOf = rs.getLong("duplicate_of");
+        dto.setDuplicateOf(rs.wasNull() ? null : duplicateOf);
+
+        long ownerId = rs.getLong("owner_id");
+        if (!rs.wasNull()) {
+            dto.setOwnerId(ownerId);
+            dto.setOwnerName(rs.getString("owner_first_name") + " " + rs.getString("owner_last_name"));
+        }
+        return dto;
+    }
+
+    private static Short getCode(ResultSet rs, String column) throws SQLException {
+        short code = rs.getShort(column);
+        return rs.wasNull() ? null : code;
+    }
+}
@@ -1,11 +1,19 @@
 package com.fonet.real_estate_backend.repository;
 
+import com.fonet.real_estate_backend.model.HeatingType;
+import com.fonet.real_estate_backend.model.NumberOfRooms;
 import com.fonet.real_estate_backend.model.Property;
+import com.fonet.real_estate_backend.model.PropertyStatus;
+import com.fonet.real_estate_backend.model.PropertyType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Property entity data access operations.
@@ -21,4 +29,95 @@ public interface PropertyRepository extends JpaRepository<Property, Long>, JpaSp
      * @return List of properties listed by the specified user
      */
     List<Property> findByLister_Id(Long listerId);
-}
\ No newline at end of file
+
+    /**
+     * Finds all properties that are still in the active (non-archived) set.
+     *
+     * @return List of active properties
+     */
+    List<Property> findByArchivedFalse();
+
+    /**
+     * Tells whether any listing is flagged as a duplicate of the given one.
+     *
+     * @param duplicateOf The ID of the possible original
+     * @return true if at least one listing points at it through duplicate_of
+     */
+    boolean existsByDuplicateOf(Long duplicateOf);
+
+    /**
+     * Loads a property with its owner and lister in a single fetch-join query.
+     * Used by the detail endpoint so serialization triggers no lazy loads.
+     *
+     * @param id The ID of the property
+     * @return Optional containing the property if found, empty otherwise
+     */
+    @Query("select p from Property p left join fetch p.owner left join fetch p.lister where p.id = :id")
+    Optional<Property> findDetailById(@Param("id") Long id);
+
+    /**
+     * Reads only the versions that the property detail body depends on.
+     * Lets conditional GETs be answered without loading the listing.
+     *
+     * @param id The ID of the property
+     * @return Optional containing the versions if the property exists, empty otherwise
+     */
+    @Query("""
+            select p.version as version, o.version as ownerVersion, l.version as listerVersion, p.duplicateOf as duplicateOf
+            from Property p left join p.owner o left join p.lister l
+            where p.id = :id
+            """)
+    Optional<DetailVersions> findDetailVersionsById(@Param("id") Long id);
+
+    /**
+     * Versions of a listing and of the rows its detail view embeds.
+     */
+    interface DetailVersions {
+        Long getVersion();
+
+        Long getOwnerVersion();
+
+        Long getListerVersion();
+
+        Long getDuplicateOf();
+    }
+
+    /**
+     * Reads only the fields saved searches filter on, for the active listings among the given IDs.
+     * Lets the saved-search percolator match changed listings without loading them.
+     *
+     * @param ids The IDs of the changed listings
+     * @return Match fields of those that exist and are not archived
+     */
+    @Query("""
+            select p.id as id, p.propertyType as propertyType, p.propertyStatus as propertyStatus,
+                   p.heatingType as heatingType, p.numberOfRooms as numberOfRooms, p.floor as floor,
+                   p.address as address, p.price as price, p.area as area
+            from Property p
+            where p.id in :ids and p.archived = false
+            """)
+    List<MatchFields> findMatchFieldsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Listing fields a saved search can filter on.
+     */
+    interface MatchFields {
+        Long getId();
+
+        PropertyType getPropertyType();
+
+        PropertyStatus getPropertyStatus();
+
+        HeatingType getHeatingType();
+
+        NumberOfRooms getNumberOfRooms();
+
+        int getFloor();
+
+        String getAddress();
+
+        double getPrice();
+
+        double getArea();
+    }
+}
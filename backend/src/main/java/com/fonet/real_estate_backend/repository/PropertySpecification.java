@@ -1,11 +1,17 @@
 package com.fonet.real_estate_backend.repository;
 
+import com.fonet.real_estate_backend.dto.PropertySearchCriteria;
+import com.fonet.real_estate_backend.model.NumberOfRooms;
 import com.fonet.real_estate_backend.model.Property;
 import com.fonet.real_estate_backend.model.PropertyType;
 import com.fonet.real_estate_backend.model.HeatingType;
 import com.fonet.real_estate_backend.model.PropertyStatus;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.List;
+
 /**
  * Specification class for building dynamic JPA queries for Property entities.
  * Provides static methods to create individual search criteria that can be combined
@@ -17,12 +23,8 @@ public class PropertySpecification {
             if (propertyType == null || propertyType.isEmpty()) {
                 return criteriaBuilder.conjunction();
             }
-            try {
-                PropertyType enumValue = PropertyType.valueOf(propertyType.toUpperCase());
-                return criteriaBuilder.equal(root.get("propertyType"), enumValue);
-            } catch (IllegalArgumentException e) {
-                return criteriaBuilder.disjunction();
-            }
+            PropertyType enumValue = PropertyType.fromValue(propertyType);
+            return enumValue != null ? criteriaBuilder.equal(root.get("propertyType"), enumValue) : criteriaBuilder.disjunction();
         };
     }
 
@@ -31,12 +33,8 @@ public class PropertySpecification {
             if (heatingType == null || heatingType.isEmpty()) {
                 return criteriaBuilder.conjunction();
             }
-            try {
-                HeatingType enumValue = HeatingType.valueOf(heatingType.toUpperCase());
-                return criteriaBuilder.equal(root.get("heatingType"), enumValue);
-            } catch (IllegalArgumentException e) {
-                return criteriaBuilder.disjunction();
-            }
+            HeatingType enumValue = HeatingType.fromValue(heatingType);
+            return enumValue != null ? criteriaBuilder.equal(root.get("heatingType"), enumValue) : criteriaBuilder.disjunction();
         };
     }
 
@@ -45,12 +43,8 @@ public class PropertySpecification {
             if (propertyStatus == null || propertyStatus.isEmpty()) {
                 return criteriaBuilder.conjunction();
             }
-            try {
-                PropertyStatus enumValue = PropertyStatus.valueOf(propertyStatus.toUpperCase());
-                return criteriaBuilder.equal(root.get("propertyStatus"), enumValue);
-            } catch (IllegalArgumentException e) {
-                return criteriaBuilder.disjunction();
-            }
+            PropertyStatus enumValue = PropertyStatus.fromValue(propertyStatus);
+            return enumValue != null ? criteriaBuilder.equal(root.get("propertyStatus"), enumValue) : criteriaBuilder.disjunction();
         };
     }
 
@@ -75,8 +69,13 @@ public class PropertySpecification {
     }
 
     public static Specification<Property> hasNumberOfRooms(String numberOfRooms) {
-        return (root, query, criteriaBuilder) ->
-                numberOfRooms != null ? criteriaBuilder.equal(root.get("numberOfRooms"), numberOfRooms) : criteriaBuilder.conjunction();
+        return (root, query, criteriaBuilder) -> {
+            if (numberOfRooms == null || numberOfRooms.isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+            NumberOfRooms enumValue = NumberOfRooms.fromValue(numberOfRooms);
+            return enumValue != null ? criteriaBuilder.equal(root.get("numberOfRooms"), enumValue) : criteriaBuilder.disjunction();
+        };
     }
 
     public static Specification<Property> hasFloor(Integer floor) {
@@ -90,4 +89,63 @@ public class PropertySpecification {
                         criteriaBuilder.like(criteriaBuilder.lower(root.get("address")),
                                 "%" + address.toLowerCase() + "%") : criteriaBuilder.conjunction();
     }
-}
\ No newline at end of file
+
+    public static Specification<Property> isActive(boolean includeHistory) {
+        return (root, query, criteriaBuilder) ->
+                includeHistory ? criteriaBuilder.conjunction() : criteriaBuilder.isFalse(root.get("archived"));
+    }
+
+    public static Specification<Property> hasIdIn(List<Long> ids) {
+        return (root, query, criteriaBuilder) ->
+                ids != null ? root.get("id").in(ids) : criteriaBuilder.conjunction();
+    }
+
+    public static Specification<Property> hasOwnerId(Long ownerId) {
+        return (root, query, criteriaBuilder) ->
+                ownerId != null ? criteriaBuilder.equal(root.get("owner").get("id"), ownerId) : criteriaBuilder.conjunction();
+    }
+
+    public static Specification<Property> hasListerId(Long listerId) {
+        return (root, query, criteriaBuilder) ->
+                listerId != null ? criteriaBuilder.equal(root.get("lister").get("id"), listerId) : criteriaBuilder.conjunction();
+    }
+
+    /**
+     * Leaves out listings flagged as a duplicate of a listing that is still active;
+     * a duplicate whose original was archived stands in for it.
+     */
+    public static Specification<Property> isCanonical(boolean collapseDuplicates) {
+        return (root, query, criteriaBuilder) -> {
+            if (!collapseDuplicates) {
+                return criteriaBuilder.conjunction();
+            }
+            Subquery<Long> activeOriginal = query.subquery(Long.class);
+            Root<Property> original = activeOriginal.from(Property.class);
+            activeOriginal.select(original.get("id")).where(
+                    criteriaBuilder.equal(original.get("id"), root.get("duplicateOf")),
+                    criteriaBuilder.isFalse(original.get("archived")));
+            return criteriaBuilder.or(
+                    criteriaBuilder.isNull(root.get("duplicateOf")),
+                    criteriaBuilder.not(criteriaBuilder.exists(activeOriginal)));
+        };
+    }
+
+    public static Specification<Property> matching(PropertySearchCriteria criteria) {
+        return Specification
+                .where(isActive(criteria.isIncludeHistory()))
+                .and(isCanonical(criteria.isCollapseDuplicates()))
+                .and(hasIdIn(criteria.getIds()))
+                .and(hasOwnerId(criteria.getOwnerId()))
+                .and(hasListerId(criteria.getListerId()))
+                .and(hasPropertyType(criteria.getPropertyType()))
+                .and(hasPropertyStatus(criteria.getPropertyStatus()))
+                .and(addressContains(criteria.getAddress()))
+                .and(hasHeatingType(criteria.getHeatingType()))
+                .and(hasNumberOfRooms(criteria.getNumberOfRooms()))
+                .and(hasFloor(criteria.getFloor()))
+                .and(hasMinPrice(criteria.getMinPrice()))
+                .and(hasMaxPrice(criteria.getMaxPrice()))
+                .and(hasMinArea(criteria.getMinArea()))
+                .and(hasMaxArea(criteria.getMaxArea()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.fonet.real_estate_backend.repository;
+
+import com.fonet.real_estate_backend.model.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for SavedSearch entity data access operations.
+ */
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+    /**
+     * Finds the saved searches of a user.
+     *
+     * @param userId The ID of the user
+     * @return List of the user's saved searches
+     */
+    List<SavedSearch> findByUser_Id(Long userId);
+
+    /**
+     * Finds a saved search only if it belongs to the given user.
+     *
+     * @param id The ID of the saved search
+     * @param userId The ID of the user
+     * @return Optional containing the saved search if it exists and belongs to the user
+     */
+    Optional<SavedSearch> findByIdAndUser_Id(Long id, Long userId);
+}
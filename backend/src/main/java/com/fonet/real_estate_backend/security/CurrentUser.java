@@ -0,0 +1,30 @@
+package com.fonet.real_estate_backend.security;
+
+import com.fonet.real_estate_backend.model.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Access to the user authenticated by JwtAuthFilter for the current request.
+ * The filter already loads the user to check the token, so handlers can use it
+ * without another lookup by email.
+ */
+public final class CurrentUser {
+
+    private CurrentUser() {
+    }
+
+    /**
+     * Returns the authenticated user of the current request.
+     * The instance is detached; it can be used as a reference on new entities.
+     *
+     * @return The authenticated user, or null for anonymous requests
+     */
+    public static User get() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof User user) {
+            return user;
+        }
+        return null;
+    }
+}
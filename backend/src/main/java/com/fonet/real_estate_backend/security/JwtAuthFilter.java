@@ -15,15 +15,21 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * JWT Authentication Filter that intercepts HTTP requests to validate JWT tokens.
  * Extends OncePerRequestFilter to ensure the filter is executed only once per request.
  * Validates JWT tokens from Authorization header and sets up Spring Security context.
+ * The saved-search event stream also accepts a short-lived stream token in the token query
+ * parameter, because the browser EventSource API cannot set headers; that token is accepted
+ * nowhere else, and the header never accepts it.
  */
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private static final String STREAM_PATH = "/api/saved-searches/stream";
+
     private final JwtUtils jwtUtils;
     private final UserRepository userRepository;
 
@@ -54,11 +60,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
 
         String authHeader = request.getHeader("Authorization");
-
+        String token = null;
+        String scope = null;
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
+            token = authHeader.substring(7);
+        } else if ("GET".equals(request.getMethod()) && STREAM_PATH.equals(request.getServletPath())
+                && request.getParameter("token") != null) {
+            token = request.getParameter("token");
+            scope = JwtUtils.STREAM_SCOPE;
+        }
 
-            if (jwtUtils.validateJwtToken(token)) {
+        if (token != null) {
+            if (jwtUtils.validateJwtToken(token) && Objects.equals(jwtUtils.getScopeFromJwtToken(token), scope)) {
                 String email = jwtUtils.getUserEmailFromJwtToken(token);
                 User user = userRepository.findByEmail(email).orElse(null);
 
@@ -69,6 +82,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
                     UsernamePasswordAuthenticationToken auth =
                             new UsernamePasswordAuthenticationToken(user.getEmail(), null, authorities);
+                    // Handlers read the loaded user through CurrentUser instead of querying it again.
+                    auth.setDetails(user);
 
                     SecurityContextHolder.getContext().setAuthentication(auth);
                 }
@@ -23,6 +23,14 @@ public class JwtUtils {
     @Value("${fonet.app.jwtExpirationMs}")
     private int jwtExpirationMs;
 
+    @Value("${fonet.app.streamTokenExpirationMs:60000}")
+    private int streamTokenExpirationMs;
+
+    /**
+     * Scope claim value of event-stream tokens; such tokens authenticate only the stream they are for.
+     */
+    public static final String STREAM_SCOPE = "stream";
+
     /**
      * Creates and returns the signing key for JWT operations.
      * Decodes the Base64-encoded secret and creates HMAC-SHA key.
@@ -51,6 +59,42 @@ public class JwtUtils {
                 .compact();
     }
 
+    /**
+     * Generates a short-lived token that only opens the saved-search event stream.
+     * It travels in the URL, so it carries the stream scope and expires quickly.
+     *
+     * @param email User's email address (used as token subject)
+     * @return Generated JWT token as string
+     */
+    public String generateStreamToken(String email) {
+        return Jwts.builder()
+                .setSubject(email)
+                .claim("scope", STREAM_SCOPE)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + streamTokenExpirationMs))
+                .signWith(key(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * Lifetime of the tokens made by {@link #generateStreamToken(String)}.
+     *
+     * @return Lifetime in milliseconds
+     */
+    public long getStreamTokenExpirationMs() {
+        return streamTokenExpirationMs;
+    }
+
+    /**
+     * Extracts the scope claim from JWT token.
+     *
+     * @param token JWT token to extract the scope from
+     * @return The scope, or null for a regular login token
+     */
+    public String getScopeFromJwtToken(String token) {
+        return parseClaims(token).get("scope", String.class);
+    }
+
     /**
      * Extracts user email from JWT token.
      *
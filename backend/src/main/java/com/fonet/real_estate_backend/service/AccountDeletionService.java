@@ -0,0 +1,179 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.repository.BusinessRepository;
+import com.fonet.real_estate_backend.repository.CustomerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Service for deleting customer and business accounts with set-based statements.
+ * A customer's listings are removed in bounded batches, each in its own short transaction,
+ * instead of being loaded and cascaded one entity at a time. Pending purges are recorded in
+ * customer_purge, so a purge that fails or is interrupted by a restart is retried.
+ */
+@Service
+public class AccountDeletionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountDeletionService.class);
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private BusinessRepository businessRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ImageCleanupService imageCleanupService;
+
+    @Autowired
+    private ChangeWatermarkService changeWatermarkService;
+
+    @Autowired
+    private CustomerTypeaheadIndex customerTypeaheadIndex;
+
+    @Autowired
+    private PropertyEventBus propertyEventBus;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor executor;
+
+    @Value("${fonet.deletion.batch-size:500}")
+    private int batchSize;
+
+    @Value("${fonet.deletion.async:true}")
+    private boolean async;
+
+    @Value("${fonet.deletion.retry-after-seconds:300}")
+    private long retryAfterSeconds;
+
+    /**
+     * Customers purged by this instance right now, so the retry job does not start a second purge.
+     */
+    private final Set<Long> purging = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Deletes a customer together with all listings they own.
+     * The listings are tombstoned first in a single statement so they disappear from every read
+     * immediately, and the purge is recorded in the same transaction; the rows themselves are then
+     * purged in batches, in the background when asynchronous deletion is enabled. A DELETED event is
+     * published for every tombstoned listing, and again when its row is purged.
+     *
+     * @param customerId The ID of the customer to delete
+     * @return true if the purge was handed to the background executor, false if it already completed
+     */
+    public boolean deleteCustomer(Long customerId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "UPDATE property SET deleted = TRUE, version = version + 1 WHERE owner_id = ? AND NOT deleted RETURNING id",
+                    Long.class, customerId);
+            ids.forEach(id -> propertyEventBus.publish(PropertyEvent.Type.DELETED, id));
+            jdbcTemplate.update("INSERT INTO customer_purge (customer_id) VALUES (?) ON CONFLICT DO NOTHING", customerId);
+        });
+        changeWatermarkService.bump(ChangeWatermarkService.PROPERTY);
+        customerTypeaheadIndex.remove(customerId);
+
+        if (async) {
+            executor.execute(() -> tryPurgeCustomer(customerId));
+            return true;
+        }
+        purgeCustomer(customerId);
+        return false;
+    }
+
+    /**
+     * Deletes a business profile with a single statement, without loading the entity.
+     * Listings reference the business user, not the profile, so nothing cascades.
+     *
+     * @param businessId The ID of the business to delete
+     */
+    public void deleteBusiness(Long businessId) {
+        businessRepository.deleteAllByIdInBatch(List.of(businessId));
+    }
+
+    /**
+     * Resumes purges that failed or were interrupted, including those left behind by a stopped instance.
+     * Only purges requested longer ago than the retry delay are picked up, so a purge still running
+     * on another instance is normally left alone.
+     */
+    @Scheduled(fixedDelayString = "${fonet.deletion.retry-interval-ms:60000}")
+    public void resumePendingPurges() {
+        List<Long> pending = jdbcTemplate.queryForList(
+                "SELECT customer_id FROM customer_purge WHERE requested_at < now() - make_interval(secs => ?) ORDER BY requested_at",
+                Long.class, retryAfterSeconds);
+        for (Long customerId : pending) {
+            // Purges run on the task executor, never on the scheduler thread.
+            executor.execute(() -> tryPurgeCustomer(customerId));
+        }
+    }
+
+    private void tryPurgeCustomer(Long customerId) {
+        if (!purging.add(customerId)) {
+            return;
+        }
+        try {
+            purgeCustomer(customerId);
+        } catch (RuntimeException e) {
+            log.warn("Purge of customer {} failed; it will be retried", customerId, e);
+        } finally {
+            purging.remove(customerId);
+        }
+    }
+
+    private void purgeCustomer(Long customerId) {
+        int deleted;
+        int total = 0;
+        do {
+            List<String> imageUrls = new ArrayList<>();
+            deleted = transactionTemplate.execute(status -> deletePropertyBatch(customerId, imageUrls));
+            imageCleanupService.enqueue(imageUrls);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            customerRepository.deleteAllByIdInBatch(List.of(customerId));
+            jdbcTemplate.update("DELETE FROM customer_purge WHERE customer_id = ?", customerId);
+        });
+        changeWatermarkService.bump(ChangeWatermarkService.PROPERTY);
+        log.info("Deleted customer {} and {} owned listings", customerId, total);
+    }
+
+    private int deletePropertyBatch(Long customerId, List<String> imageUrls) {
+        List<Long> ids = jdbcTemplate.query("""
+                        DELETE FROM property
+                        WHERE id IN (SELECT id FROM property WHERE owner_id = ? LIMIT ?)
+                        RETURNING id, image_urls
+                        """,
+                (rs, rowNum) -> {
+                    Array images = rs.getArray("image_urls");
+                    if (images != null) {
+                        imageUrls.addAll(Arrays.asList((String[]) images.getArray()));
+                    }
+                    return rs.getLong("id");
+                },
+                customerId, batchSize);
+        ids.forEach(id -> propertyEventBus.publish(PropertyEvent.Type.DELETED, id));
+        return ids.size();
+    }
+}
@@ -0,0 +1,310 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.model.User;
+import com.fonet.real_estate_backend.security.CurrentUser;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only audit log of who created, changed or deleted which listing, customer or business.
+ * Records are fixed-size binary entries written into memory-mapped segment files: an append claims
+ * a slot with one atomic add and writes it with absolute puts, without locks, allocation or I/O.
+ * A full segment is replaced by a new one. Segment numbers come from the audit_segment_seq database
+ * sequence, so they are unique across instances and restarts with an empty audit directory; the next
+ * number is reserved ahead of time by the flusher, keeping the database off the append path. Written pages are forced to disk in one group commit per
+ * interval, so a crash of the machine (not of the process) loses at most one interval of records.
+ * Sealed segments are read back by {@link AuditLogReader} and moved to the database by {@link AuditLogExporter}.
+ *
+ * <pre>
+ * offset  0: long  timestamp (epoch ms, never 0)
+ * offset  8: long  actor user ID (0 = unknown)
+ * offset 16: long  entity ID
+ * offset 24: byte  entity type code
+ * offset 25: byte  action code
+ * offset 28: int   checksum of the fields above; torn or unwritten slots fail it
+ * </pre>
+ */
+@Service
+public class AuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+    static final int RECORD_SIZE = 32;
+
+    /**
+     * Draws enough numbers to pass the given local segment number in one round trip.
+     */
+    private static final String NEXT_SEGMENT_SQL = """
+            SELECT max(n) FROM (SELECT nextval('audit_segment_seq') AS n FROM generate_series(1, ?)) s
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${fonet.audit.dir:audit}")
+    private String directory;
+
+    @Value("${fonet.audit.segment-size-bytes:67108864}")
+    private int segmentSizeBytes;
+
+    private Path dir;
+    private int capacity;
+
+    private volatile Segment active;
+
+    /**
+     * Number for the next segment, drawn ahead of time by the flusher; 0 when none is reserved.
+     * Guarded by {@code rollLock}.
+     */
+    private long reserved;
+
+    /**
+     * Replaced segments whose last records may still be in flight; forced and closed by the flusher.
+     */
+    private final Queue<Segment> sealing = new ConcurrentLinkedQueue<>();
+
+    private final ReentrantLock rollLock = new ReentrantLock();
+
+    @PostConstruct
+    void open() throws IOException {
+        dir = Paths.get(directory);
+        Files.createDirectories(dir);
+        capacity = Math.max(segmentSizeBytes / RECORD_SIZE, 1) * RECORD_SIZE;
+        List<Path> existing = AuditLogReader.segments(dir);
+        long last = existing.isEmpty() ? 0 : AuditLogReader.segmentNumber(existing.get(existing.size() - 1));
+        // The previous process's last segment is treated as sealed; appends always start a fresh one,
+        // numbered above every local segment so the sealed ones still sort before it.
+        long number = nextSegmentNumber(1);
+        if (number <= last) {
+            number = nextSegmentNumber(last - number + 1);
+        }
+        active = Segment.create(dir, number, capacity);
+    }
+
+    private long nextSegmentNumber(long draws) {
+        return jdbcTemplate.queryForObject(NEXT_SEGMENT_SQL, Long.class, draws);
+    }
+
+    /**
+     * Records a change made by the user of the current request.
+     * Never throws: a record that cannot be written is logged instead.
+     *
+     * @param entityType The kind of record changed
+     * @param action The kind of change
+     * @param entityId ID of the changed record
+     */
+    public void record(AuditRecord.EntityType entityType, AuditRecord.Action action, Long entityId) {
+        if (entityId == null) {
+            return;
+        }
+        User user = CurrentUser.get();
+        long actorId = user != null && user.getId() != null ? user.getId() : 0L;
+        try {
+            append(System.currentTimeMillis(), actorId, entityType, action, entityId);
+        } catch (UncheckedIOException | DataAccessException e) {
+            log.error("Could not write audit record: user {} {} {} {}", actorId, action, entityType, entityId, e);
+        }
+    }
+
+    private void append(long timestamp, long actorId, AuditRecord.EntityType entityType,
+                        AuditRecord.Action action, long entityId) {
+        while (true) {
+            Segment segment = active;
+            segment.writers.incrementAndGet();
+            try {
+                long offset = segment.claimed.getAndAdd(RECORD_SIZE);
+                if (offset + RECORD_SIZE <= segment.capacity) {
+                    segment.write((int) offset, timestamp, actorId, entityId, entityType.getCode(), action.getCode());
+                    return;
+                }
+            } finally {
+                segment.writers.decrementAndGet();
+            }
+            roll(segment);
+        }
+    }
+
+    private void roll(Segment full) {
+        rollLock.lock();
+        try {
+            if (active != full) {
+                return;
+            }
+            long number = reserved != 0 ? reserved : nextSegmentNumber(1);
+            reserved = 0;
+            Segment next = Segment.create(dir, number, capacity);
+            sealing.add(full);
+            active = next;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            rollLock.unlock();
+        }
+    }
+
+    /**
+     * Group commit: forces everything appended since the last run to disk with one sync per segment,
+     * and closes replaced segments once their last writers are done. Also reserves the number of the
+     * next segment if the last roll used it up.
+     */
+    @Scheduled(fixedDelayString = "${fonet.audit.force-interval-ms:200}")
+    public void force() {
+        active.force();
+        for (Iterator<Segment> it = sealing.iterator(); it.hasNext(); ) {
+            Segment segment = it.next();
+            if (segment.writers.get() == 0) {
+                segment.force();
+                segment.close();
+                it.remove();
+            }
+        }
+        reserveSegmentNumber();
+    }
+
+    private void reserveSegmentNumber() {
+        rollLock.lock();
+        try {
+            if (reserved != 0) {
+                return;
+            }
+        } finally {
+            rollLock.unlock();
+        }
+        long number;
+        try {
+            number = nextSegmentNumber(1);
+        } catch (DataAccessException e) {
+            log.debug("Could not reserve the next audit segment number; retrying on the next run", e);
+            return;
+        }
+        rollLock.lock();
+        try {
+            // A roll that raced ahead drew a higher number of its own; segments must keep ascending,
+            // so this one is then skipped.
+            if (reserved == 0 && number > active.number) {
+                reserved = number;
+            }
+        } finally {
+            rollLock.unlock();
+        }
+    }
+
+    /**
+     * Lists the segments no longer written to, oldest first.
+     *
+     * @return Paths of the sealed segment files
+     * @throws IOException if the audit directory cannot be listed
+     */
+    public List<Path> sealedSegments() throws IOException {
+        long activeNumber = active.number;
+        List<Long> stillSealing = new ArrayList<>();
+        sealing.forEach(segment -> stillSealing.add(segment.number));
+        List<Path> sealed = new ArrayList<>();
+        for (Path segment : AuditLogReader.segments(dir)) {
+            long number = AuditLogReader.segmentNumber(segment);
+            if (number < activeNumber && !stillSealing.contains(number)) {
+                sealed.add(segment);
+            }
+        }
+        return sealed;
+    }
+
+    @PreDestroy
+    void close() {
+        force();
+        active.close();
+    }
+
+    /**
+     * Checksum over the fields of a record; never 0, so an unwritten slot never passes.
+     */
+    static int checksum(long timestamp, long actorId, long entityId, int entityType, int action) {
+        long hash = timestamp * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ actorId) * 0xC2B2AE3D27D4EB4FL;
+        hash = (hash ^ entityId) * 0x165667B19E3779F9L;
+        hash = (hash ^ (entityType << 8 | action)) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32) | 1;
+    }
+
+    private static final class Segment {
+        private final long number;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final AtomicLong claimed = new AtomicLong();
+        private final AtomicInteger writers = new AtomicInteger();
+
+        /**
+         * Claimed bytes at the last force; only touched by the flusher.
+         */
+        private long forced;
+
+        private Segment(long number, FileChannel channel, MappedByteBuffer buffer, int capacity) {
+            this.number = number;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+
+        static Segment create(Path dir, long number, int capacity) throws IOException {
+            FileChannel channel = FileChannel.open(AuditLogReader.segmentPath(dir, number),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(number, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), capacity);
+        }
+
+        void write(int offset, long timestamp, long actorId, long entityId, short entityType, short action) {
+            buffer.putLong(offset, timestamp);
+            buffer.putLong(offset + 8, actorId);
+            buffer.putLong(offset + 16, entityId);
+            buffer.put(offset + 24, (byte) entityType);
+            buffer.put(offset + 25, (byte) action);
+            buffer.putInt(offset + 28, checksum(timestamp, actorId, entityId, entityType, action));
+        }
+
+        void force() {
+            long claimedNow = claimed.get();
+            if (claimedNow != forced) {
+                // Claims are taken with a writer registered, so no writers here means every record
+                // up to claimedNow is complete; otherwise the next run forces again.
+                boolean complete = writers.get() == 0;
+                buffer.force();
+                if (complete) {
+                    forced = claimedNow;
+                }
+            }
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Could not close audit segment {}", number, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.fonet.real_estate_backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compacts the audit log into the audit_event table: every sealed segment is bulk-inserted with
+ * one multi-row statement per batch and its file is deleted afterwards. A segment interrupted halfway
+ * is exported again in full on the next run; duplicates are ignored by the (segment, slot) key.
+ * Segment numbers are unique across instances (see {@link AuditLog}), so that key only ever matches a
+ * re-export; records skipped on a conflict are still counted and logged.
+ */
+@Service
+public class AuditLogExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogExporter.class);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_event (segment, slot, occurred_at, actor_id, entity_type, action, entity_id)
+            SELECT s.segment, s.slot, to_timestamp(s.ts / 1000.0), NULLIF(s.actor_id, 0), s.entity_type, s.action, s.entity_id
+            FROM unnest(?::bigint[], ?::int[], ?::bigint[], ?::bigint[], ?::smallint[], ?::smallint[], ?::bigint[])
+                 AS s(segment, slot, ts, actor_id, entity_type, action, entity_id)
+            ON CONFLICT (segment, slot) DO NOTHING
+            """;
+
+    @Autowired
+    private AuditLog auditLog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${fonet.audit.export-batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * Exports all sealed segments, oldest first. Stops at the first failure and retries on the next run.
+     */
+    @Scheduled(fixedDelayString = "${fonet.audit.export-interval-ms:300000}")
+    public void exportSealedSegments() {
+        try {
+            for (Path segment : auditLog.sealedSegments()) {
+                int[] counts = exportSegment(segment);
+                Files.delete(segment);
+                log.info("Exported {} audit records from {}", counts[0], segment.getFileName());
+                if (counts[1] > 0) {
+                    log.warn("{} audit records from {} were already in audit_event and were skipped",
+                            counts[1], segment.getFileName());
+                }
+            }
+        } catch (IOException | DataAccessException e) {
+            log.warn("Could not export the audit log; retrying on the next run", e);
+        }
+    }
+
+    /**
+     * @return Records inserted and records skipped because their key already existed
+     */
+    private int[] exportSegment(Path segment) throws IOException {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        int[] counts = {0, 0};
+        AuditLogReader.read(segment, record -> {
+            batch.add(record);
+            if (batch.size() == batchSize) {
+                insert(batch, counts);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            insert(batch, counts);
+        }
+        return counts;
+    }
+
+    private void insert(List<AuditRecord> records, int[] counts) {
+        int size = records.size();
+        Long[] segments = new Long[size];
+        Integer[] slots = new Integer[size];
+        Long[] timestamps = new Long[size];
+        Long[] actorIds = new Long[size];
+        Short[] entityTypes = new Short[size];
+        Short[] actions = new Short[size];
+        Long[] entityIds = new Long[size];
+        for (int i = 0; i < size; i++) {
+            AuditRecord record = records.get(i);
+            segments[i] = record.segment();
+            slots[i] = record.slot();
+            timestamps[i] = record.timestamp();
+            actorIds[i] = record.actorId();
+            entityTypes[i] = record.entityType().getCode();
+            actions[i] = record.action().getCode();
+            entityIds[i] = record.entityId();
+        }
+        int inserted = jdbcTemplate.update(INSERT_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", segments));
+            ps.setArray(2, connection.createArrayOf("integer", slots));
+            ps.setArray(3, connection.createArrayOf("bigint", timestamps));
+            ps.setArray(4, connection.createArrayOf("bigint", actorIds));
+            ps.setArray(5, connection.createArrayOf("smallint", entityTypes));
+            ps.setArray(6, connection.createArrayOf("smallint", actions));
+            ps.setArray(7, connection.createArrayOf("bigint", entityIds));
+        });
+        counts[0] += inserted;
+        counts[1] += size - inserted;
+    }
+}
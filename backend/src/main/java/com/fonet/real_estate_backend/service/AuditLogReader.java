@@ -0,0 +1,117 @@
+package com.fonet.real_estate_backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Reads the segment files written by {@link AuditLog}.
+ * Unwritten and torn slots (bad checksum) are skipped, so segments left behind by a crash read cleanly.
+ * Also a command-line tool that prints all records of an audit directory as JSON lines:
+ * {@code java -cp <classpath> com.fonet.real_estate_backend.service.AuditLogReader <audit dir>}.
+ */
+public final class AuditLogReader {
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private AuditLogReader() {
+    }
+
+    /**
+     * Lists the segment files of an audit directory, oldest first.
+     *
+     * @param dir The audit directory
+     * @return Paths of the segment files
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<Path> segments(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(AuditLogReader::isSegment)
+                    .sorted(Comparator.comparingLong(AuditLogReader::segmentNumber))
+                    .toList();
+        }
+    }
+
+    /**
+     * Reads all valid records of a segment in slot order.
+     *
+     * @param segment Path of the segment file
+     * @param consumer Receiver of the records
+     * @throws IOException if the file cannot be read
+     */
+    public static void read(Path segment, Consumer<AuditRecord> consumer) throws IOException {
+        long number = segmentNumber(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            for (int offset = 0; offset + AuditLog.RECORD_SIZE <= buffer.capacity(); offset += AuditLog.RECORD_SIZE) {
+                long timestamp = buffer.getLong(offset);
+                if (timestamp == 0) {
+                    continue;
+                }
+                long actorId = buffer.getLong(offset + 8);
+                long entityId = buffer.getLong(offset + 16);
+                byte entityType = buffer.get(offset + 24);
+                byte action = buffer.get(offset + 25);
+                if (buffer.getInt(offset + 28) != AuditLog.checksum(timestamp, actorId, entityId, entityType, action)) {
+                    continue;
+                }
+                consumer.accept(new AuditRecord(number, offset / AuditLog.RECORD_SIZE, timestamp, actorId,
+                        AuditRecord.EntityType.fromCode(entityType), AuditRecord.Action.fromCode(action), entityId));
+            }
+        }
+    }
+
+    static Path segmentPath(Path dir, long number) {
+        return dir.resolve(SEGMENT_PREFIX + String.format("%020d", number) + SEGMENT_SUFFIX);
+    }
+
+    static long segmentNumber(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)
+                && name.length() == SEGMENT_PREFIX.length() + 20 + SEGMENT_SUFFIX.length();
+    }
+
+    /**
+     * Prints every record of the given audit directory (default "audit") to standard output as JSON lines.
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "audit");
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        for (Path segment : segments(dir)) {
+            read(segment, record -> {
+                try {
+                    out.write("{\"segment\":" + record.segment()
+                            + ",\"slot\":" + record.slot()
+                            + ",\"timestamp\":\"" + Instant.ofEpochMilli(record.timestamp())
+                            + "\",\"actorId\":" + record.actorId()
+                            + ",\"entityType\":\"" + record.entityType()
+                            + "\",\"action\":\"" + record.action()
+                            + "\",\"entityId\":" + record.entityId() + "}\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        out.flush();
+    }
+}
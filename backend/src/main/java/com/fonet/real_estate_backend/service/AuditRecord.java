@@ -0,0 +1,58 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.model.CodedEnum;
+import com.fonet.real_estate_backend.model.CodedEnumLookup;
+import lombok.Getter;
+
+/**
+ * One decoded entry of the audit log.
+ *
+ * @param segment Number of the segment file holding the record
+ * @param slot Position of the record within its segment
+ * @param timestamp Time of the change, in epoch milliseconds
+ * @param actorId ID of the user who made the change, or 0 if unknown
+ * @param entityType The kind of record changed
+ * @param action The kind of change
+ * @param entityId ID of the changed record
+ */
+public record AuditRecord(long segment, int slot, long timestamp, long actorId,
+                          EntityType entityType, Action action, long entityId) {
+
+    @Getter
+    public enum EntityType implements CodedEnum {
+        PROPERTY(1),
+        CUSTOMER(2),
+        BUSINESS(3);
+
+        private static final CodedEnumLookup<EntityType> LOOKUP = CodedEnumLookup.of(values());
+
+        private final short code;
+
+        EntityType(int code) {
+            this.code = (short) code;
+        }
+
+        public static EntityType fromCode(short code) {
+            return LOOKUP.fromCode(code);
+        }
+    }
+
+    @Getter
+    public enum Action implements CodedEnum {
+        CREATE(1),
+        UPDATE(2),
+        DELETE(3);
+
+        private static final CodedEnumLookup<Action> LOOKUP = CodedEnumLookup.of(values());
+
+        private final short code;
+
+        Action(int code) {
+            this.code = (short) code;
+        }
+
+        public static Action fromCode(short code) {
+            return LOOKUP.fromCode(code);
+        }
+    }
+}
@@ -32,6 +32,9 @@ public class AuthService {
     @Autowired
     private BusinessRepository businessRepository;
 
+    @Autowired
+    private CustomerTypeaheadIndex customerTypeaheadIndex;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -76,7 +79,7 @@ public class AuthService {
             customer.setPhoneNumber(request.getPhoneNumber());
             customer.setAddress(request.getAddress());
             customer.setUser(savedUser);
-            customerRepository.save(customer);
+            customerTypeaheadIndex.put(customerRepository.save(customer));
         } else if (savedUser.getRole() == Role.BUSINESS) {
             Business business = new Business();
             business.setBusinessName(request.getBusinessName());
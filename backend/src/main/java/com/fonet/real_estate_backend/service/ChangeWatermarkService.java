@@ -0,0 +1,64 @@
+package com.fonet.real_estate_backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for per-table change watermarks stored in the change_watermark table.
+ * Every write to a tracked table bumps its counter, so collection responses can be
+ * validated against a single primary-key read instead of re-running their query.
+ * The counter lives in the database and is therefore shared by all nodes.
+ */
+@Service
+public class ChangeWatermarkService {
+
+    public static final String PROPERTY = "property";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reads the current watermark of a table.
+     *
+     * @param table The tracked table name
+     * @return The current watermark value
+     */
+    public long current(String table) {
+        Long version = jdbcTemplate.queryForObject(
+                "SELECT version FROM change_watermark WHERE table_name = ?", Long.class, table);
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * Increments the watermark of a table.
+     * Must be called after the write it covers is committed, so a reader can never
+     * pair the new watermark with data from before the write.
+     *
+     * @param table The tracked table name
+     */
+    public void bump(String table) {
+        jdbcTemplate.update("UPDATE change_watermark SET version = version + 1 WHERE table_name = ?", table);
+    }
+
+    /**
+     * Builds the weak ETag used for collection responses derived from a table.
+     *
+     * @param table The tracked table name
+     * @return Weak ETag for the table's current watermark
+     */
+    public String weakETag(String table) {
+        return weakETag(table, current(table));
+    }
+
+    /**
+     * Builds the weak ETag for an already-read watermark value.
+     *
+     * @param table The tracked table name
+     * @param version The watermark value
+     * @return Weak ETag for the given watermark
+     */
+    public String weakETag(String table, long version) {
+        return "W/\"" + table + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,214 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.dto.CustomerSuggestion;
+import com.fonet.real_estate_backend.model.Customer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory prefix index over customer names for typeahead lookups.
+ * Every first-name word, last-name word and the full name is stored, folded for Turkish
+ * (locale-aware lower case, dotless i and diacritics removed), as a key in a sorted map;
+ * a lookup is a range scan over the keys starting with the folded query.
+ * Writes through CustomerController, registration and account deletion update the index directly;
+ * a periodic rebuild from the database picks up changes made on other nodes.
+ */
+@Service
+public class CustomerTypeaheadIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerTypeaheadIndex.class);
+
+    /**
+     * Separates the token from the customer ID in a key; sorts before every character,
+     * so all keys of a token directly follow the token itself.
+     */
+    private static final char SEPARATOR = '\u0000';
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile Snapshot snapshot = new Snapshot();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Changes applied while a rebuild is reading the table; replayed onto the new index before it is
+     * swapped in, because the rebuild's query may have started before they were committed.
+     * Guarded by {@code lock}.
+     */
+    private List<Consumer<Snapshot>> changesDuringRebuild;
+
+    /**
+     * Returns customers whose first name, last name or full name starts with the query.
+     *
+     * @param query The typed prefix
+     * @param limit Maximum number of suggestions
+     * @return Up to {@code limit} suggestions, ordered by matching name
+     */
+    public List<CustomerSuggestion> lookup(String query, int limit) {
+        String prefix = TextFolding.fold(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<Long, CustomerSuggestion> matches = new LinkedHashMap<>();
+        for (CustomerSuggestion suggestion : snapshot.byKey
+                .subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            matches.putIfAbsent(suggestion.getId(), suggestion);
+            if (matches.size() == limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    /**
+     * Adds or replaces a customer in the index.
+     * Inside a transaction the change is applied after commit, so rolled-back customers never appear.
+     *
+     * @param customer The saved customer
+     */
+    public void put(Customer customer) {
+        CustomerSuggestion suggestion = new CustomerSuggestion(customer.getId(), customer.getFirstName(), customer.getLastName());
+        afterCommit(() -> apply(index -> index.put(suggestion)));
+    }
+
+    /**
+     * Removes a customer from the index.
+     *
+     * @param customerId The ID of the deleted customer
+     */
+    public void remove(Long customerId) {
+        afterCommit(() -> apply(index -> index.remove(customerId)));
+    }
+
+    /**
+     * Rebuilds the index from the customer table and swaps it in atomically.
+     * Runs at startup and periodically; lookups keep using the previous index meanwhile.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${fonet.typeahead.rebuild-interval-ms:600000}",
+            fixedDelayString = "${fonet.typeahead.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        lock.lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        Snapshot rebuilt = new Snapshot();
+        try {
+            jdbcTemplate.query("SELECT id, first_name, last_name FROM customer",
+                    rs -> {
+                        rebuilt.put(new CustomerSuggestion(rs.getLong("id"), rs.getString("first_name"), rs.getString("last_name")));
+                    });
+            lock.lock();
+            try {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                snapshot = rebuilt;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            lock.lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+        log.debug("Rebuilt customer typeahead index with {} customers", rebuilt.keysById.size());
+    }
+
+    private void apply(Consumer<Snapshot> change) {
+        lock.lock();
+        try {
+            change.accept(snapshot);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final ConcurrentSkipListMap<String, CustomerSuggestion> byKey = new ConcurrentSkipListMap<>();
+
+        /**
+         * Written only under the index lock (or by the single rebuild thread before publication).
+         */
+        private final ConcurrentHashMap<Long, Set<String>> keysById = new ConcurrentHashMap<>();
+
+        /**
+         * Replaces the keys of one customer. New keys are added before stale ones are removed,
+         * so concurrent lookups never miss a customer that only changed its name.
+         */
+        void put(CustomerSuggestion suggestion) {
+            Set<String> keys = keysFor(suggestion);
+            keys.forEach(key -> byKey.put(key, suggestion));
+            Set<String> oldKeys = keysById.put(suggestion.getId(), keys);
+            if (oldKeys != null) {
+                oldKeys.stream().filter(key -> !keys.contains(key)).forEach(byKey::remove);
+            }
+        }
+
+        void remove(Long customerId) {
+            Set<String> oldKeys = keysById.remove(customerId);
+            if (oldKeys != null) {
+                oldKeys.forEach(byKey::remove);
+            }
+        }
+
+        private static Set<String> keysFor(CustomerSuggestion suggestion) {
+            String first = TextFolding.fold(suggestion.getFirstName());
+            String last = TextFolding.fold(suggestion.getLastName());
+            Set<String> tokens = new LinkedHashSet<>();
+            tokens.add((first + " " + last).trim());
+            for (String name : new String[]{first, last}) {
+                for (String word : name.split(" ")) {
+                    tokens.add(word);
+                }
+            }
+            Set<String> keys = new LinkedHashSet<>();
+            for (String token : tokens) {
+                if (!token.isEmpty()) {
+                    keys.add(token + SEPARATOR + suggestion.getId());
+                }
+            }
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.fonet.real_estate_backend.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Circuit breaker for public database reads.
+ * Outcomes of the last reads are kept in a sliding window; a read counts as bad if it failed with a
+ * database error or took longer than the slow-call threshold. When the share of bad reads reaches the
+ * failure threshold, the breaker opens and reads stop going to the database at all, so request threads
+ * no longer queue on the connection pool. While open, a background probe measures a trivial query;
+ * after enough consecutive fast probes the breaker closes again.
+ */
+@Service
+public class DatabaseCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseCircuitBreaker.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${fonet.breaker.window-size:50}")
+    private int windowSize;
+
+    @Value("${fonet.breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${fonet.breaker.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${fonet.breaker.slow-call-ms:2000}")
+    private long slowCallMs;
+
+    @Value("${fonet.breaker.probe-successes:3}")
+    private int probeSuccessesToClose;
+
+    @Value("${fonet.breaker.probe-timeout-seconds:2}")
+    private int probeTimeoutSeconds;
+
+    private JdbcTemplate probeJdbcTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Ring of the latest outcomes (true = bad), guarded by {@code lock}.
+     */
+    private boolean[] window;
+    private int calls;
+    private int badCalls;
+    private int next;
+
+    private volatile boolean open;
+    private int probeSuccesses;
+
+    @PostConstruct
+    void init() {
+        window = new boolean[windowSize];
+        probeJdbcTemplate = new JdbcTemplate(dataSource);
+        probeJdbcTemplate.setQueryTimeout(probeTimeoutSeconds);
+    }
+
+    /**
+     * Tells whether reads should go to the database.
+     *
+     * @return false while the breaker is open
+     */
+    public boolean allowRequest() {
+        return !open;
+    }
+
+    /**
+     * Records a completed read.
+     *
+     * @param elapsedNanos Duration of the read
+     */
+    public void recordSuccess(long elapsedNanos) {
+        record(elapsedNanos > TimeUnit.MILLISECONDS.toNanos(slowCallMs));
+    }
+
+    /**
+     * Records a read that failed with a database error.
+     */
+    public void recordFailure() {
+        record(true);
+    }
+
+    /**
+     * Tells whether an exception means the database is failing, as opposed to a bad request.
+     *
+     * @param e The exception thrown by a read
+     * @return true for data access and transaction infrastructure errors
+     */
+    public static boolean isDatabaseFailure(RuntimeException e) {
+        return e instanceof DataAccessException || e instanceof TransactionException
+                || e instanceof jakarta.persistence.PersistenceException;
+    }
+
+    private void record(boolean bad) {
+        lock.lock();
+        try {
+            if (open) {
+                return;
+            }
+            if (calls == window.length) {
+                if (window[next]) {
+                    badCalls--;
+                }
+            } else {
+                calls++;
+            }
+            window[next] = bad;
+            if (bad) {
+                badCalls++;
+            }
+            next = (next + 1) % window.length;
+            if (calls >= minimumCalls && badCalls >= failureRateThreshold * calls) {
+                open = true;
+                probeSuccesses = 0;
+                log.warn("Database circuit opened: {} of the last {} reads failed or were slow", badCalls, calls);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * While open, checks database latency with a trivial query and closes the breaker after
+     * enough consecutive probes succeed within the slow-call threshold.
+     */
+    @Scheduled(fixedDelayString = "${fonet.breaker.probe-interval-ms:2000}")
+    public void probe() {
+        if (!open) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean healthy;
+        try {
+            probeJdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            healthy = System.nanoTime() - start <= TimeUnit.MILLISECONDS.toNanos(slowCallMs);
+        } catch (RuntimeException e) {
+            log.debug("Database probe failed", e);
+            healthy = false;
+        }
+        lock.lock();
+        try {
+            probeSuccesses = healthy ? probeSuccesses + 1 : 0;
+            if (probeSuccesses >= probeSuccessesToClose) {
+                window = new boolean[window.length];
+                calls = 0;
+                badCalls = 0;
+                next = 0;
+                open = false;
+                log.info("Database circuit closed after {} healthy probes", probeSuccesses);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.model.NumberOfRooms;
+import com.fonet.real_estate_backend.model.Property;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory locality-sensitive hashing index for spotting the same home listed more than once.
+ * Each active listing gets a MinHash signature over character shingles of its folded address and
+ * description. The signature is cut into bands; every band is hashed together with the room count
+ * and a logarithmic price bucket into one LSH bucket key. A new or edited listing is compared only
+ * with listings sharing a bucket (probing the neighbouring price buckets too), so flagging costs a
+ * fixed number of lookups regardless of catalogue size. Candidates are confirmed by estimated
+ * Jaccard similarity and by price and area tolerance.
+ * Created, updated and deleted listings reach the index through the {@link PropertyEventBus};
+ * it is also rebuilt from the database in one streaming pass at startup and periodically.
+ */
+@Service
+public class DuplicateListingIndex implements PropertyEventConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateListingIndex.class);
+
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int HASHES = BANDS * ROWS;
+    private static final int SHINGLE_LENGTH = 4;
+    private static final int MAX_TEXT_LENGTH = 1000;
+
+    /**
+     * Width of a price bucket: prices within a factor of 1.25 share a bucket or are neighbours.
+     */
+    private static final double LOG_PRICE_STEP = Math.log(1.25);
+
+    private static final long[] SEEDS = new SplittableRandom(0x5EEDL).longs(HASHES).toArray();
+
+    private static final String REBUILD_SQL = """
+            SELECT id, address, description, price, area, number_of_rooms, duplicate_of
+            FROM property
+            WHERE NOT archived AND NOT deleted
+            """;
+
+    private static final String CHANGED_SQL = """
+            SELECT id, address, description, price, area, number_of_rooms, duplicate_of
+            FROM property
+            WHERE NOT archived AND NOT deleted AND id = ANY(?::bigint[])
+            """;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${fonet.duplicates.similarity-threshold:0.7}")
+    private double similarityThreshold;
+
+    @Value("${fonet.duplicates.tolerance:0.1}")
+    private double tolerance;
+
+    @Value("${fonet.duplicates.max-candidates:64}")
+    private int maxCandidates;
+
+    @Value("${fonet.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${fonet.duplicates.rebuild-timeout-seconds:300}")
+    private int rebuildTimeoutSeconds;
+
+    private JdbcTemplate cursorJdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+
+    private volatile Snapshot snapshot = new Snapshot();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Changes applied while a rebuild is streaming the table, replayed onto the new index before
+     * it is swapped in. Guarded by {@code lock}.
+     */
+    private List<Consumer<Snapshot>> changesDuringRebuild;
+
+    @PostConstruct
+    void init() {
+        cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        cursorJdbcTemplate.setFetchSize(fetchSize);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Finds the listing a property most likely duplicates.
+     *
+     * Listings already flagged as duplicates of this property are skipped, so flagging never forms a cycle.
+     *
+     * @param property The new or edited property (its own ID, if any, is never returned)
+     * @return ID of the original listing (the root of its duplicate chain), or null if none qualifies
+     */
+    public Long findDuplicateOf(Property property) {
+        Entry probe = Entry.of(property.getId() != null ? property.getId() : -1L, property.getAddress(),
+                property.getDescription(), property.getPrice(), property.getArea(), roomCode(property.getNumberOfRooms()), null);
+        Snapshot current = snapshot;
+        Long bestId = null;
+        double bestSimilarity = similarityThreshold;
+        int examined = 0;
+        for (int band = 0; band < BANDS && examined < maxCandidates; band++) {
+            for (long priceBucket = probe.priceBucket - 1; priceBucket <= probe.priceBucket + 1; priceBucket++) {
+                Set<Long> bucket = current.buckets.get(bandKey(probe, band, priceBucket));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Long candidateId : bucket) {
+                    if (candidateId == probe.id) {
+                        continue;
+                    }
+                    if (examined++ >= maxCandidates) {
+                        break;
+                    }
+                    Entry candidate = current.entries.get(candidateId);
+                    if (candidate == null || (candidate.duplicateOf != null && candidate.duplicateOf == probe.id)
+                            || !withinTolerance(probe, candidate)) {
+                        continue;
+                    }
+                    double similarity = probe.similarity(candidate);
+                    if (similarity >= bestSimilarity) {
+                        bestSimilarity = similarity;
+                        bestId = candidate.duplicateOf != null ? candidate.duplicateOf : candidateId;
+                    }
+                }
+            }
+        }
+        return bestId;
+    }
+
+    @Override
+    public String consumerName() {
+        return "duplicate-listing-index";
+    }
+
+    /**
+     * Re-reads the changed listings and adds, replaces or removes them in the index.
+     *
+     * @param events Committed listing changes
+     */
+    @Override
+    public void onPropertyEvents(List<PropertyEvent> events) {
+        Long[] ids = events.stream().map(PropertyEvent::propertyId).distinct().toArray(Long[]::new);
+        List<Entry> active = new ArrayList<>();
+        cursorJdbcTemplate.query(CHANGED_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)),
+                rs -> {
+                    active.add(readEntry(rs));
+                });
+        Set<Long> activeIds = new HashSet<>();
+        active.forEach(entry -> activeIds.add(entry.id));
+        apply(index -> {
+            active.forEach(index::put);
+            for (Long id : ids) {
+                if (!activeIds.contains(id)) {
+                    index.remove(id);
+                }
+            }
+        });
+    }
+
+    /**
+     * Rebuilds the index from the active listings in one streaming pass and swaps it in.
+     * Lookups keep using the previous index meanwhile. The pass is cancelled after
+     * fonet.duplicates.rebuild-timeout-seconds, keeping the previous index until the next run.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${fonet.duplicates.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${fonet.duplicates.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        lock.lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        Snapshot rebuilt = new Snapshot();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(rebuildTimeoutSeconds);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                // A full pass can outlive the pool-wide statement_timeout on large catalogues, but stays bounded.
+                cursorJdbcTemplate.execute("SET LOCAL statement_timeout = " + TimeUnit.SECONDS.toMillis(rebuildTimeoutSeconds));
+                cursorJdbcTemplate.query(REBUILD_SQL, rs -> {
+                    // statement_timeout restarts with every cursor fetch, so the whole pass has its own deadline.
+                    if (System.nanoTime() - deadline > 0) {
+                        throw new QueryTimeoutException("Duplicate index rebuild exceeded " + rebuildTimeoutSeconds + " s");
+                    }
+                    rebuilt.put(readEntry(rs));
+                });
+            });
+            lock.lock();
+            try {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                snapshot = rebuilt;
+            } finally {
+                lock.unlock();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not rebuild the duplicate listing index; keeping the previous one until the next run", e);
+            return;
+        } finally {
+            lock.lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+        log.debug("Rebuilt duplicate listing index with {} listings", rebuilt.entries.size());
+    }
+
+    private boolean withinTolerance(Entry a, Entry b) {
+        return closeTo(a.price, b.price) && closeTo(a.area, b.area);
+    }
+
+    private boolean closeTo(double a, double b) {
+        double larger = Math.max(Math.abs(a), Math.abs(b));
+        return larger == 0 || Math.abs(a - b) <= tolerance * larger;
+    }
+
+    private void apply(Consumer<Snapshot> change) {
+        lock.lock();
+        try {
+            change.accept(snapshot);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Entry readEntry(ResultSet rs) throws SQLException {
+        short rooms = rs.getShort("number_of_rooms");
+        long duplicateOf = rs.getLong("duplicate_of");
+        Long original = rs.wasNull() ? null : duplicateOf;
+        return Entry.of(rs.getLong("id"), rs.getString("address"), rs.getString("description"),
+                rs.getDouble("price"), rs.getDouble("area"), rooms, original);
+    }
+
+    private static short roomCode(NumberOfRooms rooms) {
+        return rooms != null ? rooms.getCode() : 0;
+    }
+
+    private static long bandKey(Entry entry, int band, long priceBucket) {
+        long hash = mix(band * 0x9E3779B97F4A7C15L ^ entry.rooms);
+        hash = mix(hash ^ priceBucket);
+        for (int row = 0; row < ROWS; row++) {
+            hash = mix(hash ^ entry.signature[band * ROWS + row]);
+        }
+        return hash;
+    }
+
+    /**
+     * 64-bit finalizer of MurmurHash3; spreads every input bit over the whole output.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static final class Entry {
+        private final long id;
+        private final long[] signature;
+        private final long[] bandKeys;
+        private final double price;
+        private final double area;
+        private final short rooms;
+        private final long priceBucket;
+        private final Long duplicateOf;
+
+        private Entry(long id, long[] signature, double price, double area, short rooms, Long duplicateOf) {
+            this.id = id;
+            this.signature = signature;
+            this.price = price;
+            this.area = area;
+            this.rooms = rooms;
+            this.priceBucket = price > 1 ? (long) Math.floor(Math.log(price) / LOG_PRICE_STEP) : 0;
+            this.duplicateOf = duplicateOf;
+            this.bandKeys = new long[BANDS];
+            for (int band = 0; band < BANDS; band++) {
+                bandKeys[band] = bandKey(this, band, priceBucket);
+            }
+        }
+
+        static Entry of(long id, String address, String description, double price, double area,
+                        short rooms, Long duplicateOf) {
+            String text = TextFolding.fold(address) + " | " + TextFolding.fold(description);
+            if (text.length() > MAX_TEXT_LENGTH) {
+                text = text.substring(0, MAX_TEXT_LENGTH);
+            }
+            return new Entry(id, minHash(text), price, area, rooms, duplicateOf);
+        }
+
+        /**
+         * Fraction of equal signature positions, an estimate of the Jaccard similarity of the shingle sets.
+         */
+        double similarity(Entry other) {
+            int equal = 0;
+            for (int i = 0; i < HASHES; i++) {
+                if (signature[i] == other.signature[i]) {
+                    equal++;
+                }
+            }
+            return (double) equal / HASHES;
+        }
+
+        private static long[] minHash(String text) {
+            long[] signature = new long[HASHES];
+            Arrays.fill(signature, Long.MAX_VALUE);
+            int shingles = Math.max(1, text.length() - SHINGLE_LENGTH + 1);
+            for (int start = 0; start < shingles; start++) {
+                long shingle = 0;
+                for (int i = start; i < Math.min(start + SHINGLE_LENGTH, text.length()); i++) {
+                    shingle = shingle * 31 + text.charAt(i);
+                }
+                for (int i = 0; i < HASHES; i++) {
+                    long hash = mix(shingle ^ SEEDS[i]);
+                    if (hash < signature[i]) {
+                        signature[i] = hash;
+                    }
+                }
+            }
+            return signature;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final ConcurrentHashMap<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+
+        private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+        void put(Entry entry) {
+            remove(entry.id);
+            entries.put(entry.id, entry);
+            for (long key : entry.bandKeys) {
+                buckets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(entry.id);
+            }
+        }
+
+        void remove(long id) {
+            Entry old = entries.remove(id);
+            if (old == null) {
+                return;
+            }
+            for (long key : old.bandKeys) {
+                buckets.computeIfPresent(key, (k, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+}
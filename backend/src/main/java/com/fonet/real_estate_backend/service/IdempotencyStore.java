@@ -0,0 +1,124 @@
+package com.fonet.real_estate_backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Bounded store of recent Idempotency-Key values and the responses they produced.
+ * A retried request with the same key gets the stored response instead of repeating the write;
+ * a retry that arrives while the first attempt is still running waits for its outcome.
+ * Keys are scoped per user, expire after a TTL and the least recently used ones are evicted
+ * once the store is full. The store is per node, which covers client retries to the same instance.
+ */
+@Service
+public class IdempotencyStore {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<Key, Entry> entries;
+
+    @Value("${fonet.idempotency.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    public IdempotencyStore(@Value("${fonet.idempotency.max-entries:10000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Runs the action once per user and key, replaying its response for later requests with the same key.
+     * Server errors (exceptions and 5xx responses) are not stored, so the client can retry them.
+     *
+     * @param userId The ID of the authenticated user
+     * @param idempotencyKey The client-supplied Idempotency-Key
+     * @param fingerprint Digest of the request; a reused key with a different request is rejected
+     * @param action The write to perform
+     * @return The response of the first completed attempt, or 422 if the key was used for another request
+     */
+    public ResponseEntity<?> execute(Long userId, String idempotencyKey, String fingerprint,
+                                     Supplier<ResponseEntity<?>> action) {
+        Key key = new Key(userId, idempotencyKey);
+        Entry entry;
+        boolean owner = false;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+            if (entry != null && entry.isExpired(ttlSeconds)) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry(fingerprint);
+                entries.put(key, entry);
+                owner = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!entry.fingerprint.equals(fingerprint)) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body("Idempotency-Key was already used for a different request");
+        }
+        if (!owner) {
+            try {
+                return entry.response.join();
+            } catch (CompletionException e) {
+                // The first attempt failed and was forgotten; this retry performs the write itself.
+                return execute(userId, idempotencyKey, fingerprint, action);
+            }
+        }
+
+        try {
+            ResponseEntity<?> response = action.get();
+            if (response.getStatusCode().is5xxServerError()) {
+                forget(key, entry);
+            }
+            entry.response.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            forget(key, entry);
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void forget(Key key, Entry entry) {
+        lock.lock();
+        try {
+            entries.remove(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Key(Long userId, String idempotencyKey) {
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final long createdAt = System.nanoTime();
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        boolean isExpired(long ttlSeconds) {
+            return System.nanoTime() - createdAt > ttlSeconds * 1_000_000_000L;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.fonet.real_estate_backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Deletes uploaded image files of removed listings off the request path.
+ * Files are removed after the database rows are gone, so a failed cleanup only leaves
+ * an orphaned file behind, never a listing pointing at a missing image.
+ */
+@Service
+public class ImageCleanupService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageCleanupService.class);
+
+    private static final String UPLOAD_DIR = "uploads/";
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor executor;
+
+    /**
+     * Queues the files behind the given image URLs for deletion.
+     *
+     * @param imageUrls Image URLs as stored on listings ("/uploads/&lt;file&gt;")
+     */
+    public void enqueue(Collection<String> imageUrls) {
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return;
+        }
+        List<String> urls = List.copyOf(imageUrls);
+        executor.execute(() -> urls.forEach(this::deleteFile));
+    }
+
+    private void deleteFile(String imageUrl) {
+        Path uploadPath = Paths.get(UPLOAD_DIR).toAbsolutePath().normalize();
+        String fileName = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
+        Path filePath = uploadPath.resolve(fileName).normalize();
+        if (!filePath.startsWith(uploadPath)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            log.warn("Could not delete image file {}", filePath, e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.fonet.real_estate_backend.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Immutable interval tree for stabbing queries: which intervals contain a point.
+ * Intervals are sorted by start and laid out as an implicit balanced tree over the sorted array,
+ * each node storing the largest end in its subtree, so a query visits O(log n + k) nodes
+ * for k results.
+ *
+ * @param <T> Item carried by each interval
+ */
+final class IntervalIndex<T> {
+
+    private final Object[] items;
+    private final double[] starts;
+    private final double[] ends;
+    private final double[] maxEnds;
+
+    /**
+     * Builds the tree. Null bounds are open: a missing start is -infinity, a missing end +infinity.
+     *
+     * @param values Items to index
+     * @param start Lower bound of an item (inclusive), NaN for none
+     * @param end Upper bound of an item (inclusive), NaN for none
+     */
+    IntervalIndex(List<T> values, ToDoubleFunction<T> start, ToDoubleFunction<T> end) {
+        Object[] sorted = values.toArray();
+        @SuppressWarnings("unchecked")
+        Comparator<Object> byStart = Comparator.comparingDouble(item -> lower(start.applyAsDouble((T) item)));
+        Arrays.sort(sorted, byStart);
+        int n = sorted.length;
+        this.items = sorted;
+        this.starts = new double[n];
+        this.ends = new double[n];
+        this.maxEnds = new double[n];
+        for (int i = 0; i < n; i++) {
+            @SuppressWarnings("unchecked")
+            T item = (T) sorted[i];
+            starts[i] = lower(start.applyAsDouble(item));
+            ends[i] = upper(end.applyAsDouble(item));
+        }
+        buildMaxEnds(0, n);
+    }
+
+    /**
+     * Passes every item whose interval contains the point to the consumer.
+     *
+     * @param point The value to stab with
+     * @param consumer Receives the matching items
+     */
+    void stab(double point, Consumer<T> consumer) {
+        stab(0, items.length, point, consumer);
+    }
+
+    int size() {
+        return items.length;
+    }
+
+    private double buildMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        int mid = (lo + hi) >>> 1;
+        double max = Math.max(ends[mid], Math.max(buildMaxEnds(lo, mid), buildMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stab(int lo, int hi, double point, Consumer<T> consumer) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnds[mid] < point) {
+            return;
+        }
+        stab(lo, mid, point, consumer);
+        if (starts[mid] <= point) {
+            if (ends[mid] >= point) {
+                consumer.accept((T) items[mid]);
+            }
+            stab(mid + 1, hi, point, consumer);
+        }
+    }
+
+    private static double lower(double value) {
+        return Double.isNaN(value) ? Double.NEGATIVE_INFINITY : value;
+    }
+
+    private static double upper(double value) {
+        return Double.isNaN(value) ? Double.POSITIVE_INFINITY : value;
+    }
+}
@@ -0,0 +1,219 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fonet.real_estate_backend.dto.PropertyFieldSet;
+import com.fonet.real_estate_backend.dto.PropertySearchCriteria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Stale-while-unavailable fallback for public read endpoints.
+ * Every successful 200 response body is kept in an LRU cache under the canonical form of the request
+ * (see the key factories), so query-string variations that select the same result share one entry and
+ * unknown parameters are ignored. The cache is bounded by entry count and by the total JSON size of
+ * the bodies; a body is measured when stored, and at most once per refresh interval per key.
+ * While the {@link DatabaseCircuitBreaker} is open, or when a read fails with a database error, the
+ * last good body for the same key is served instead, marked with a stale Warning and its Age.
+ * Requests never served before get 503 Service Unavailable.
+ */
+@Service
+public class LastKnownGoodCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LastKnownGoodCache.class);
+
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    @Autowired
+    private DatabaseCircuitBreaker databaseCircuitBreaker;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${fonet.breaker.snapshot-max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${fonet.breaker.snapshot-max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${fonet.breaker.snapshot-refresh-ms:5000}")
+    private long refreshMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Access-ordered, eldest first; guarded by {@code lock}, as is {@code totalBytes}.
+     */
+    private final Map<Object, Snapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * Key for the listing page, optionally restricted to IDs and a sparse fieldset.
+     *
+     * @return The key, or null for an invalid fieldset (the request is then never cached)
+     */
+    public static Object listKey(List<Long> ids, String fields) {
+        PropertySearchCriteria criteria = new PropertySearchCriteria();
+        criteria.setIds(ids);
+        return searchKey("list", criteria, fields, null);
+    }
+
+    /**
+     * Key for a listing detail.
+     */
+    public static Object detailKey(Long id) {
+        return new SnapshotKey("detail", id, null);
+    }
+
+    /**
+     * Key for a search: the criteria in canonical form, the compiled fieldset and the sort order.
+     *
+     * @return The key, or null for an invalid fieldset (the request is then never cached)
+     */
+    public static Object searchKey(PropertySearchCriteria criteria, String fields, String sort) {
+        return searchKey("search", criteria, fields, sort);
+    }
+
+    private static Object searchKey(String endpoint, PropertySearchCriteria criteria, String fields, String sort) {
+        PropertyFieldSet fieldSet;
+        try {
+            fieldSet = fields != null ? PropertyFieldSet.compile(fields) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return new SnapshotKey(endpoint, PropertySearchCoalescer.SearchKey.of(criteria, fieldSet, 0), sort);
+    }
+
+    /**
+     * Runs a read through the circuit breaker, remembering its body on success and falling back
+     * to the last good body for this key when the database is unavailable.
+     *
+     * @param key Canonical request key from one of the key factories; null to skip the cache
+     * @param read The handler logic; may return null after answering 304 Not Modified
+     * @return The live response, or a stale copy of the last good one
+     * @throws DataAccessResourceFailureException if the breaker is open and nothing was cached for this key
+     */
+    public ResponseEntity<?> serve(Object key, Supplier<? extends ResponseEntity<?>> read) {
+        if (!databaseCircuitBreaker.allowRequest()) {
+            return stale(key, new DataAccessResourceFailureException("Database circuit is open"));
+        }
+        long start = System.nanoTime();
+        ResponseEntity<?> response;
+        try {
+            response = read.get();
+        } catch (RuntimeException e) {
+            if (!DatabaseCircuitBreaker.isDatabaseFailure(e)) {
+                throw e;
+            }
+            databaseCircuitBreaker.recordFailure();
+            return stale(key, e);
+        }
+        databaseCircuitBreaker.recordSuccess(System.nanoTime() - start);
+        if (key != null && response != null && response.getStatusCode().value() == 200 && response.getBody() != null) {
+            put(key, response.getBody());
+        }
+        return response;
+    }
+
+    private ResponseEntity<?> stale(Object key, RuntimeException cause) {
+        Snapshot snapshot = null;
+        if (key != null) {
+            lock.lock();
+            try {
+                snapshot = snapshots.get(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (snapshot == null) {
+            throw cause;
+        }
+        long ageSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - snapshot.storedAt);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.WARNING, STALE_WARNING)
+                .header(HttpHeaders.AGE, String.valueOf(ageSeconds))
+                .body(snapshot.body);
+    }
+
+    private void put(Object key, Object body) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Snapshot current = snapshots.get(key);
+            if (current != null && now - current.storedAt < TimeUnit.MILLISECONDS.toNanos(refreshMs)) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        long bytes = measure(body);
+        if (bytes < 0 || bytes > maxBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            Snapshot previous = snapshots.put(key, new Snapshot(body, now, bytes));
+            totalBytes += bytes - (previous != null ? previous.bytes : 0);
+            for (Iterator<Snapshot> eldest = snapshots.values().iterator();
+                 eldest.hasNext() && (snapshots.size() > maxEntries || totalBytes > maxBytes); ) {
+                totalBytes -= eldest.next().bytes;
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Size of the body as JSON, counted without buffering it.
+     *
+     * @return Byte count, or -1 if the body cannot be serialized
+     */
+    private long measure(Object body) {
+        ByteCounter counter = new ByteCounter();
+        try {
+            objectMapper.writeValue(counter, body);
+        } catch (IOException e) {
+            log.debug("Could not measure a response body; not keeping it", e);
+            return -1;
+        }
+        return counter.count;
+    }
+
+    private record SnapshotKey(String endpoint, Object request, String sort) {
+    }
+
+    private record Snapshot(Object body, long storedAt, long bytes) {
+    }
+
+    private static final class ByteCounter extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
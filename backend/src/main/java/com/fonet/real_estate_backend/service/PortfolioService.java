@@ -0,0 +1,87 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.dto.PortfolioSummary;
+import com.fonet.real_estate_backend.dto.PropertyDTO;
+import com.fonet.real_estate_backend.model.PropertyStatus;
+import com.fonet.real_estate_backend.model.PropertyType;
+import com.fonet.real_estate_backend.repository.PropertyDTORowMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service computing the portfolio summary of a business user.
+ * All counts and values come from a single GROUP BY over the lister's listings, served by the
+ * (lister_id, property_status, property_type) INCLUDE (price) index, so the cost grows with the
+ * number of groups returned rather than being paid again in the browser per listing.
+ */
+@Service
+public class PortfolioService {
+
+    private static final String GROUPED_SQL = """
+            SELECT property_status, property_type, COUNT(*) AS listing_count, COALESCE(SUM(price), 0) AS listing_value
+            FROM property
+            WHERE lister_id = ? AND NOT deleted
+            GROUP BY property_status, property_type
+            """;
+
+    private static final String RECENT_SQL = PropertyDTORowMapper.SELECT
+            + "WHERE p.lister_id = ? AND NOT p.deleted ORDER BY p.id DESC LIMIT ? OFFSET ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Builds the portfolio summary of the listings published by a user, archived ones included.
+     *
+     * @param listerId The ID of the listing user
+     * @param page Zero-based page of the recent-listings slice
+     * @param size Page size of the recent-listings slice
+     * @return The portfolio summary
+     */
+    @Transactional(readOnly = true, timeoutString = "${fonet.query.list-timeout-seconds:5}")
+    public PortfolioSummary summarize(Long listerId, int page, int size) {
+        Map<PropertyStatus, PortfolioSummary.Bucket> byStatus = new EnumMap<>(PropertyStatus.class);
+        Map<PropertyType, PortfolioSummary.Bucket> byType = new EnumMap<>(PropertyType.class);
+        PortfolioSummary.Bucket total = new PortfolioSummary.Bucket(null, 0, 0);
+
+        jdbcTemplate.query(GROUPED_SQL, rs -> {
+            long count = rs.getLong("listing_count");
+            double value = rs.getDouble("listing_value");
+            add(total, count, value);
+            short statusCode = rs.getShort("property_status");
+            if (!rs.wasNull()) {
+                PropertyStatus status = PropertyStatus.fromCode(statusCode);
+                add(byStatus.computeIfAbsent(status, s -> new PortfolioSummary.Bucket(s.name(), 0, 0)), count, value);
+            }
+            short typeCode = rs.getShort("property_type");
+            if (!rs.wasNull()) {
+                PropertyType type = PropertyType.fromCode(typeCode);
+                add(byType.computeIfAbsent(type, t -> new PortfolioSummary.Bucket(t.name(), 0, 0)), count, value);
+            }
+        }, listerId);
+
+        // One extra row tells whether another page exists without a COUNT over the listings.
+        List<PropertyDTO> recent = jdbcTemplate.query(RECENT_SQL, PropertyDTORowMapper.INSTANCE,
+                listerId, size + 1, (long) page * size);
+        boolean hasMore = recent.size() > size;
+        if (hasMore) {
+            recent = recent.subList(0, size);
+        }
+
+        return new PortfolioSummary(total.getCount(), total.getValue(),
+                new ArrayList<>(byStatus.values()), new ArrayList<>(byType.values()),
+                recent, page, size, hasMore);
+    }
+
+    private static void add(PortfolioSummary.Bucket bucket, long count, double value) {
+        bucket.setCount(bucket.getCount() + count);
+        bucket.setValue(bucket.getValue() + value);
+    }
+}
@@ -0,0 +1,89 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.model.PropertyStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Background job that moves sold and rented listings out of the active search set.
+ * Works in small batches, each in its own transaction, so it never holds long locks
+ * on the property table. Every archived listing is published as UPDATED on the event bus.
+ */
+@Component
+public class PropertyArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyArchiver.class);
+
+    private static final Short[] CLOSED_STATUS_CODES = Arrays.stream(PropertyStatus.values())
+            .filter(PropertyStatus::isClosed)
+            .map(PropertyStatus::getCode)
+            .toArray(Short[]::new);
+
+    /**
+     * Rows locked by concurrent writers (or another node's archiver) are skipped and picked up
+     * by a later batch, so the statement never waits on listing edits.
+     */
+    private static final String ARCHIVE_BATCH_SQL = """
+            UPDATE property SET archived = TRUE, version = version + 1
+            WHERE id IN (SELECT id FROM property
+                         WHERE NOT archived AND NOT deleted AND property_status = ANY(?::smallint[])
+                         LIMIT ?
+                         FOR UPDATE SKIP LOCKED)
+            RETURNING id
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PropertyEventBus propertyEventBus;
+
+    @Autowired
+    private ChangeWatermarkService changeWatermarkService;
+
+    @Value("${fonet.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${fonet.archive.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    /**
+     * Archives closed listings until none are left or the per-run batch limit is reached.
+     */
+    @Scheduled(fixedDelayString = "${fonet.archive.interval-ms:60000}")
+    public void archiveClosedListings() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int archived = transactionTemplate.execute(status -> archiveBatch());
+            total += archived;
+            if (archived < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            changeWatermarkService.bump(ChangeWatermarkService.PROPERTY);
+            log.info("Archived {} closed listings", total);
+        }
+    }
+
+    private int archiveBatch() {
+        List<Long> ids = jdbcTemplate.query(ARCHIVE_BATCH_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("smallint", CLOSED_STATUS_CODES));
+            ps.setInt(2, batchSize);
+        }, (rs, rowNum) -> rs.getLong("id"));
+        ids.forEach(id -> propertyEventBus.publish(PropertyEvent.Type.UPDATED, id));
+        return ids.size();
+    }
+}
@@ -0,0 +1,193 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.dto.PropertyBatchItem;
+import com.fonet.real_estate_backend.dto.PropertyBatchResult;
+import com.fonet.real_estate_backend.dto.PropertyDTO;
+import com.fonet.real_estate_backend.model.Customer;
+import com.fonet.real_estate_backend.model.Property;
+import com.fonet.real_estate_backend.model.Role;
+import com.fonet.real_estate_backend.model.User;
+import com.fonet.real_estate_backend.repository.CustomerRepository;
+import com.fonet.real_estate_backend.repository.PropertyDTORowMapper;
+import com.fonet.real_estate_backend.repository.PropertyRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for reading and writing many properties in one round trip.
+ * Reads use a single IN query projected straight to DTOs; writes run in one transaction
+ * and are flushed with JDBC batching (see hibernate.jdbc.batch_size).
+ */
+@Service
+public class PropertyBatchService {
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PropertyEventBus propertyEventBus;
+
+    /**
+     * Loads the given properties with one query, returned in the order of the requested IDs.
+     * Unknown IDs are skipped.
+     *
+     * @param ids IDs of the properties to load
+     * @return List of PropertyDTO objects for the IDs that exist
+     */
+    @Transactional(readOnly = true, timeoutString = "${fonet.query.list-timeout-seconds:5}")
+    public List<PropertyDTO> findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<PropertyDTO> found = namedParameterJdbcTemplate.query(
+                PropertyDTORowMapper.SELECT + "WHERE NOT p.deleted AND p.id IN (:ids)", Map.of("ids", ids), PropertyDTORowMapper.INSTANCE);
+        Map<Long, Integer> position = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            position.putIfAbsent(ids.get(i), i);
+        }
+        return found.stream()
+                .sorted(Comparator.comparing(dto -> position.get(dto.getId())))
+                .toList();
+    }
+
+    /**
+     * Creates and updates properties in a single transaction.
+     * Invalid entries are reported individually and skipped; valid ones are written together.
+     * Updates are limited to listings the user has listed; accounts that are neither customers
+     * nor businesses get a 400 result for every entry.
+     *
+     * @param items Entries to apply, in request order
+     * @param user The authenticated customer or business user performing the batch
+     * @return Per-entry results in request order
+     */
+    @Transactional
+    public List<PropertyBatchResult> applyBatch(List<PropertyBatchItem> items, User user) {
+        List<PropertyBatchResult> results = new ArrayList<>(items.size());
+        if (!Role.BUSINESS.equals(user.getRole()) && !Role.CUSTOMER.equals(user.getRole())) {
+            for (int index = 0; index < items.size(); index++) {
+                results.add(new PropertyBatchResult(index, items.get(index).getId(), HttpStatus.BAD_REQUEST.value(),
+                        "Only customer or business accounts can create properties."));
+            }
+            return results;
+        }
+
+        Set<Long> updateIds = items.stream()
+                .map(PropertyBatchItem::getId)
+                .filter(id -> id != null)
+                .collect(Collectors.toSet());
+        Map<Long, Property> existing = propertyRepository.findAllById(updateIds).stream()
+                .collect(Collectors.toMap(Property::getId, Function.identity()));
+
+        Long ownCustomerId = null;
+        Set<Long> knownOwnerIds = new HashSet<>();
+        if (Role.BUSINESS.equals(user.getRole())) {
+            Set<Long> ownerIds = items.stream()
+                    .filter(item -> item.getId() == null && item.getOwnerId() != null)
+                    .map(PropertyBatchItem::getOwnerId)
+                    .collect(Collectors.toSet());
+            customerRepository.findAllById(ownerIds).forEach(customer -> knownOwnerIds.add(customer.getId()));
+        } else {
+            ownCustomerId = customerRepository.findByUserId(user.getId()).map(Customer::getId).orElse(null);
+        }
+
+        List<Property> toSave = new ArrayList<>();
+        List<PropertyBatchResult> pending = new ArrayList<>();
+        for (int index = 0; index < items.size(); index++) {
+            PropertyBatchItem item = items.get(index);
+            Property details = item.getProperty();
+            if (details == null) {
+                results.add(new PropertyBatchResult(index, item.getId(), HttpStatus.BAD_REQUEST.value(), "Missing property"));
+                continue;
+            }
+            Set<ConstraintViolation<Property>> violations = validator.validate(details);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .collect(Collectors.joining(", "));
+                results.add(new PropertyBatchResult(index, item.getId(), HttpStatus.BAD_REQUEST.value(), message));
+                continue;
+            }
+
+            Property target;
+            if (item.getId() != null) {
+                target = existing.get(item.getId());
+                if (target == null) {
+                    results.add(new PropertyBatchResult(index, item.getId(), HttpStatus.NOT_FOUND.value(), "Property not found"));
+                    continue;
+                }
+                if (target.getLister() == null || !user.getId().equals(target.getLister().getId())) {
+                    results.add(new PropertyBatchResult(index, item.getId(), HttpStatus.FORBIDDEN.value(), "Not the lister of this property"));
+                    continue;
+                }
+                copyDetails(details, target);
+            } else {
+                Long ownerId = Role.BUSINESS.equals(user.getRole()) ? item.getOwnerId() : ownCustomerId;
+                if (ownerId == null || (Role.BUSINESS.equals(user.getRole()) && !knownOwnerIds.contains(ownerId))) {
+                    results.add(new PropertyBatchResult(index, null, HttpStatus.BAD_REQUEST.value(), "Customer not found"));
+                    continue;
+                }
+                target = details;
+                target.setId(null);
+                target.setImageUrls(new ArrayList<>());
+                target.setOwner(customerRepository.getReferenceById(ownerId));
+                target.setLister(user);
+            }
+
+            toSave.add(target);
+            PropertyBatchResult result = new PropertyBatchResult(index, item.getId(),
+                    item.getId() != null ? HttpStatus.OK.value() : HttpStatus.CREATED.value(), null);
+            pending.add(result);
+            results.add(result);
+        }
+
+        List<Property> saved = propertyRepository.saveAll(toSave);
+        propertyRepository.flush();
+        for (int i = 0; i < saved.size(); i++) {
+            pending.get(i).setId(saved.get(i).getId());
+            propertyEventBus.publish(pending.get(i).getStatus() == HttpStatus.CREATED.value()
+                    ? PropertyEvent.Type.CREATED : PropertyEvent.Type.UPDATED, saved.get(i).getId());
+        }
+        return results;
+    }
+
+    private void copyDetails(Property source, Property target) {
+        target.setPropertyType(source.getPropertyType());
+        target.setArea(source.getArea());
+        target.setNumberOfRooms(source.getNumberOfRooms());
+        target.setFloor(source.getFloor());
+        target.setHeatingType(source.getHeatingType());
+        target.setAddress(source.getAddress());
+        target.setDescription(source.getDescription());
+        target.setPrice(source.getPrice());
+        if (source.getPropertyStatus() != null) {
+            target.setPropertyStatus(source.getPropertyStatus());
+            if (!source.getPropertyStatus().isClosed()) {
+                target.setArchived(false);
+            }
+        }
+    }
+}
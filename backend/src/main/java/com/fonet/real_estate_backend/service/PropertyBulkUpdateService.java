@@ -0,0 +1,140 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.dto.PropertyBulkUpdateRequest;
+import com.fonet.real_estate_backend.dto.PropertyBulkUpdateResult;
+import com.fonet.real_estate_backend.model.Property;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fonet.real_estate_backend.repository.PropertySpecification.matching;
+
+/**
+ * Service for set-based status and price changes over every listing matching a filter.
+ * Matching IDs are walked in keyset order and each batch is changed with one CriteriaUpdate
+ * in its own transaction, so no entity is loaded and no transaction spans the whole portfolio.
+ * The property watermark is bumped after every committed batch, so collection ETags never outlive
+ * a batch that was applied before a later one failed.
+ */
+@Service
+public class PropertyBulkUpdateService {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyBulkUpdateService.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PropertyEventBus propertyEventBus;
+
+    @Autowired
+    private ChangeWatermarkService changeWatermarkService;
+
+    @Value("${fonet.bulk-update.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Applies the requested change to all matching listings of a lister.
+     *
+     * @param request The filter and the change to apply
+     * @param listerId ID of the user whose listings may be changed; always added to the filter
+     * @return The IDs of all changed listings and the number of batches used; if a batch failed after
+     *         earlier ones were committed, the committed part with an error message
+     * @throws IllegalArgumentException if the filter is missing, empty without allListings, no change is
+     *         requested or the price change is not above -100%
+     */
+    public PropertyBulkUpdateResult apply(PropertyBulkUpdateRequest request, Long listerId) {
+        if (request.getFilter() == null) {
+            throw new IllegalArgumentException("filter must be given");
+        }
+        if (!request.getFilter().hasFilters() && !request.isAllListings()) {
+            throw new IllegalArgumentException("filter is empty; set allListings to change every listing");
+        }
+        if (request.getNewStatus() == null && request.getPriceChangePercent() == null) {
+            throw new IllegalArgumentException("Either newStatus or priceChangePercent must be given");
+        }
+        if (request.getPriceChangePercent() != null && request.getPriceChangePercent() <= -100) {
+            throw new IllegalArgumentException("priceChangePercent must be greater than -100");
+        }
+        request.getFilter().setListerId(listerId);
+        Specification<Property> spec = matching(request.getFilter());
+
+        List<Long> affectedIds = new ArrayList<>();
+        int batches = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Long> ids;
+            try {
+                ids = transactionTemplate.execute(status -> updateBatch(spec, afterId, request));
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                batches++;
+                affectedIds.addAll(ids);
+                changeWatermarkService.bump(ChangeWatermarkService.PROPERTY);
+            } catch (RuntimeException e) {
+                if (affectedIds.isEmpty()) {
+                    throw e;
+                }
+                log.error("Bulk update of lister {} failed after {} committed batches", listerId, batches, e);
+                return new PropertyBulkUpdateResult(affectedIds, batches,
+                        "Stopped after " + batches + " batches; only the listed changes were applied");
+            }
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return new PropertyBulkUpdateResult(affectedIds, batches, null);
+    }
+
+    private List<Long> updateBatch(Specification<Property> spec, long afterId, PropertyBulkUpdateRequest request) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> select = cb.createQuery(Long.class);
+        Root<Property> selectRoot = select.from(Property.class);
+        select.select(selectRoot.get("id"))
+                .where(cb.and(spec.toPredicate(selectRoot, select, cb), cb.greaterThan(selectRoot.get("id"), afterId)))
+                .orderBy(cb.asc(selectRoot.get("id")));
+        List<Long> ids = entityManager.createQuery(select).setMaxResults(batchSize).getResultList();
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        CriteriaUpdate<Property> update = cb.createCriteriaUpdate(Property.class);
+        Root<Property> root = update.from(Property.class);
+        if (request.getNewStatus() != null) {
+            update.set(root.get("propertyStatus"), request.getNewStatus());
+            if (!request.getNewStatus().isClosed()) {
+                update.set(root.<Boolean>get("archived"), false);
+            }
+        }
+        if (request.getPriceChangePercent() != null) {
+            double factor = 1 + request.getPriceChangePercent() / 100;
+            update.set(root.<Double>get("price"), cb.prod(root.<Double>get("price"), factor));
+        }
+        // Bulk statements bypass optimistic locking; bump the version so detail ETags change.
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.where(root.get("id").in(ids));
+        entityManager.createQuery(update).executeUpdate();
+        ids.forEach(id -> propertyEventBus.publish(PropertyEvent.Type.UPDATED, id));
+        return ids;
+    }
+}
@@ -0,0 +1,36 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.model.CodedEnum;
+import com.fonet.real_estate_backend.model.CodedEnumLookup;
+import lombok.Getter;
+
+/**
+ * Committed change to a listing, as delivered by the {@link PropertyEventBus}.
+ * Events carry only the listing ID; consumers read the current state themselves, which keeps
+ * replayed and duplicated events harmless.
+ *
+ * @param id ID of the event in the property_event outbox
+ * @param type The kind of change
+ * @param propertyId ID of the changed listing
+ */
+public record PropertyEvent(long id, Type type, long propertyId) {
+
+    @Getter
+    public enum Type implements CodedEnum {
+        CREATED(1),
+        UPDATED(2),
+        DELETED(3);
+
+        private static final CodedEnumLookup<Type> LOOKUP = CodedEnumLookup.of(values());
+
+        private final short code;
+
+        Type(int code) {
+            this.code = (short) code;
+        }
+
+        public static Type fromCode(short code) {
+            return LOOKUP.fromCode(code);
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package com.fonet.real_estate_backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process bus for property lifecycle events.
+ * Publishing inside a transaction writes the events to the property_event outbox just before commit,
+ * in one statement, and hands them to the bus after commit; rolled-back changes publish nothing.
+ * The bus is a fixed ring of preallocated slots shared by all {@link PropertyEventConsumer} beans,
+ * each reading it on its own thread at its own pace and receiving whatever has accumulated as one batch.
+ * Publishers never wait: a consumer that falls a full ring behind is overtaken, notices it and
+ * catches up from the outbox instead, so request latency never depends on consumer speed.
+ * Consumers checkpoint the outbox ID they have handled and resume from it after a restart.
+ */
+@Service
+public class PropertyEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyEventBus.class);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO property_event (event_type, property_id)
+            SELECT * FROM unnest(?::smallint[], ?::bigint[])
+            RETURNING id, event_type, property_id
+            """;
+
+    private static final String REPLAY_SQL = """
+            SELECT id, event_type, property_id
+            FROM property_event
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String INIT_CHECKPOINT_SQL = """
+            INSERT INTO property_event_checkpoint (consumer, last_event_id)
+            SELECT ?, COALESCE(MAX(id), 0) FROM property_event
+            ON CONFLICT (consumer) DO NOTHING
+            """;
+
+    private static final String SAVE_CHECKPOINT_SQL = """
+            UPDATE property_event_checkpoint SET last_event_id = GREATEST(last_event_id, ?)
+            WHERE consumer = ?
+            """;
+
+    private static final RowMapper<PropertyEvent> EVENT_MAPPER = (rs, rowNum) -> new PropertyEvent(
+            rs.getLong("id"), PropertyEvent.Type.fromCode(rs.getShort("event_type")), rs.getLong("property_id"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private List<PropertyEventConsumer> consumers;
+
+    @Value("${fonet.events.ring-size:4096}")
+    private int ringSize;
+
+    @Value("${fonet.events.max-batch-size:256}")
+    private int maxBatchSize;
+
+    @Value("${fonet.events.idle-wait-ms:500}")
+    private long idleWaitMs;
+
+    @Value("${fonet.events.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    @Value("${fonet.events.checkpoint-interval-ms:1000}")
+    private long checkpointIntervalMs;
+
+    @Value("${fonet.events.retention-hours:168}")
+    private int retentionHours;
+
+    private AtomicReferenceArray<PropertyEvent> ring;
+    private int mask;
+
+    /**
+     * Number of slots handed out to publishers; raised before the slots are written, so a reader that
+     * sees a newer event in a slot also sees that the slot was claimed.
+     */
+    private final AtomicLong claimed = new AtomicLong();
+
+    /**
+     * Number of events fully written to the ring and visible to consumers.
+     */
+    private volatile long published;
+
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    /**
+     * Serializes start and stop.
+     */
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+
+    @PostConstruct
+    void init() {
+        int capacity = Integer.highestOneBit(Math.max(ringSize, 2) - 1) << 1;
+        ring = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Starts one reader thread per consumer; each first replays the outbox from its checkpoint.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        lifecycleLock.lock();
+        try {
+            if (running) {
+                return;
+            }
+            running = true;
+            for (PropertyEventConsumer consumer : consumers) {
+                Subscription subscription = new Subscription(consumer);
+                subscriptions.add(subscription);
+                subscription.thread.start();
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        lifecycleLock.lock();
+        try {
+            running = false;
+            for (Subscription subscription : subscriptions) {
+                LockSupport.unpark(subscription.thread);
+            }
+            for (Subscription subscription : subscriptions) {
+                subscription.thread.join(TimeUnit.SECONDS.toMillis(5));
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    /**
+     * Publishes a change to a listing. Inside a transaction the event is written to the outbox before
+     * commit and delivered after commit; without one it is written and delivered immediately.
+     *
+     * @param type The kind of change
+     * @param propertyId ID of the changed listing
+     */
+    public void publish(PropertyEvent.Type type, Long propertyId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(write(List.of(new Pending(type, propertyId))));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Pending> pending = (List<Pending>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new OutboxSynchronization(pending));
+        }
+        pending.add(new Pending(type, propertyId));
+    }
+
+    /**
+     * Deletes outbox events older than the retention period.
+     * A consumer stopped for longer than that resumes from the oldest event still kept.
+     */
+    @Scheduled(fixedDelayString = "${fonet.events.prune-interval-ms:3600000}")
+    public void pruneOutbox() {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM property_event WHERE created_at < now() - make_interval(hours => ?)", retentionHours);
+        if (deleted > 0) {
+            log.info("Pruned {} property events from the outbox", deleted);
+        }
+    }
+
+    /**
+     * Logs how far each consumer is behind the ring and how often it was overtaken.
+     */
+    @Scheduled(fixedDelayString = "${fonet.events.metrics-interval-ms:60000}")
+    public void logBackpressure() {
+        long head = published;
+        for (Subscription subscription : subscriptions) {
+            long lag = head - subscription.sequence;
+            long overruns = subscription.overruns.getAndSet(0);
+            if (overruns > 0 || lag > mask / 2) {
+                log.warn("Property event consumer {} is {} events behind; overtaken {} times since the last report",
+                        subscription.consumer.consumerName(), lag, overruns);
+            } else {
+                log.debug("Property event consumer {} is {} events behind", subscription.consumer.consumerName(), lag);
+            }
+        }
+    }
+
+    private List<PropertyEvent> write(List<Pending> pending) {
+        Short[] types = new Short[pending.size()];
+        Long[] propertyIds = new Long[pending.size()];
+        for (int i = 0; i < pending.size(); i++) {
+            types[i] = pending.get(i).type.getCode();
+            propertyIds[i] = pending.get(i).propertyId;
+        }
+        return jdbcTemplate.query(INSERT_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("smallint", types));
+            ps.setArray(2, connection.createArrayOf("bigint", propertyIds));
+        }, EVENT_MAPPER);
+    }
+
+    private void offer(List<PropertyEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        publishLock.lock();
+        try {
+            long sequence = published;
+            claimed.set(sequence + events.size());
+            for (PropertyEvent event : events) {
+                ring.set((int) (sequence++ & mask), event);
+            }
+            published = sequence;
+        } finally {
+            publishLock.unlock();
+        }
+        for (Subscription subscription : subscriptions) {
+            LockSupport.unpark(subscription.thread);
+        }
+    }
+
+    private record Pending(PropertyEvent.Type type, Long propertyId) {
+    }
+
+    private final class OutboxSynchronization implements TransactionSynchronization {
+        private final List<Pending> pending;
+        private List<PropertyEvent> written = List.of();
+
+        OutboxSynchronization(List<Pending> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            written = write(pending);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PropertyEventBus.this);
+            if (status == STATUS_COMMITTED) {
+                offer(written);
+            }
+        }
+    }
+
+    /**
+     * Reader state of one consumer: its position in the ring and its outbox checkpoint.
+     */
+    private final class Subscription implements Runnable {
+        private final PropertyEventConsumer consumer;
+        private final Thread thread;
+        private final AtomicLong overruns = new AtomicLong();
+        private final List<PropertyEvent> batch = new ArrayList<>();
+
+        /**
+         * Next ring position to read.
+         */
+        private volatile long sequence;
+
+        private long checkpoint;
+        private long savedCheckpoint;
+        private long lastCheckpointWrite;
+
+        Subscription(PropertyEventConsumer consumer) {
+            this.consumer = consumer;
+            this.thread = new Thread(this, "property-events-" + consumer.consumerName());
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            boolean replay = true;
+            while (running) {
+                try {
+                    if (replay) {
+                        replayOutbox();
+                        replay = false;
+                    } else if (!readRing()) {
+                        overruns.incrementAndGet();
+                        replay = true;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Property event consumer {} failed; replaying from the outbox in {} ms",
+                            consumer.consumerName(), retryDelayMs, e);
+                    replay = true;
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(retryDelayMs));
+                }
+            }
+            try {
+                saveCheckpoint();
+            } catch (RuntimeException e) {
+                log.warn("Could not save the checkpoint of property event consumer {}", consumer.consumerName(), e);
+            }
+        }
+
+        /**
+         * Delivers everything after the checkpoint from the outbox, then continues from the ring position
+         * taken before the replay started; events in both are delivered twice, none is skipped.
+         */
+        private void replayOutbox() {
+            long resumeAt = published;
+            jdbcTemplate.update(INIT_CHECKPOINT_SQL, consumer.consumerName());
+            Long stored = jdbcTemplate.queryForObject(
+                    "SELECT last_event_id FROM property_event_checkpoint WHERE consumer = ?",
+                    Long.class, consumer.consumerName());
+            checkpoint = Math.max(checkpoint, stored != null ? stored : 0L);
+            savedCheckpoint = checkpoint;
+            List<PropertyEvent> events;
+            do {
+                events = jdbcTemplate.query(REPLAY_SQL, EVENT_MAPPER, checkpoint, maxBatchSize);
+                if (!events.isEmpty()) {
+                    deliver(events);
+                }
+            } while (running && events.size() == maxBatchSize);
+            sequence = resumeAt;
+        }
+
+        /**
+         * Delivers the events published since the last read, or waits for new ones.
+         *
+         * @return false if publishers overtook this consumer and events were lost from the ring
+         */
+        private boolean readRing() {
+            long next = sequence;
+            long available = published;
+            if (available == next) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(idleWaitMs));
+                return true;
+            }
+            int count = (int) Math.min(available - next, maxBatchSize);
+            batch.clear();
+            for (int i = 0; i < count; i++) {
+                batch.add(ring.get((int) (next + i & mask)));
+            }
+            // A slot read above may already hold a newer event if publishers lapped this position meanwhile.
+            if (claimed.get() - next > mask + 1) {
+                return false;
+            }
+            deliver(batch);
+            sequence = next + count;
+            return true;
+        }
+
+        private void deliver(List<PropertyEvent> events) {
+            consumer.onPropertyEvents(events);
+            for (PropertyEvent event : events) {
+                checkpoint = Math.max(checkpoint, event.id());
+            }
+            if (System.currentTimeMillis() - lastCheckpointWrite >= checkpointIntervalMs) {
+                saveCheckpoint();
+            }
+        }
+
+        private void saveCheckpoint() {
+            if (checkpoint == savedCheckpoint) {
+                return;
+            }
+            jdbcTemplate.update(SAVE_CHECKPOINT_SQL, checkpoint, consumer.consumerName());
+            savedCheckpoint = checkpoint;
+            lastCheckpointWrite = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.fonet.real_estate_backend.service;
+
+import java.util.List;
+
+/**
+ * Receiver of property lifecycle events from the {@link PropertyEventBus}.
+ * Every consumer bean gets its own thread and checkpoint and sees each committed event at least once,
+ * in batches. After a failure, a ring overflow or a restart, events are
+ * replayed from the outbox, so handling must be idempotent.
+ */
+public interface PropertyEventConsumer {
+
+    /**
+     * Stable name of the consumer, used as the key of its checkpoint.
+     *
+     * @return Consumer name, at most 64 characters
+     */
+    String consumerName();
+
+    /**
+     * Handles a batch of events. A thrown exception makes the bus replay the batch from the outbox.
+     *
+     * @param events Events in delivery order
+     */
+    void onPropertyEvents(List<PropertyEvent> events);
+}
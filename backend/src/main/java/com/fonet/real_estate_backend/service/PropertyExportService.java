@@ -0,0 +1,120 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fonet.real_estate_backend.repository.PropertyDTORowMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service for exporting the property catalogue as newline-delimited JSON.
+ * Rows are read through a server-side cursor and written one PropertyDTO at a time,
+ * so memory use does not depend on the catalogue size and no entities are managed.
+ * Each export holds a pooled connection and a transaction while it runs, so only a few may run at
+ * once and each is bounded by a deadline that covers both the query and slow readers.
+ */
+@Service
+public class PropertyExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${fonet.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${fonet.export.max-concurrent:2}")
+    private int maxConcurrent;
+
+    @Value("${fonet.export.max-duration-seconds:600}")
+    private long maxDurationSeconds;
+
+    private Semaphore slots;
+
+    private JdbcTemplate cursorJdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        cursorJdbcTemplate.setFetchSize(fetchSize);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        slots = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Reserves one of the export slots without waiting.
+     *
+     * @return true if a slot was reserved; it must be given back with {@link #releaseSlot()}
+     */
+    public boolean tryAcquireSlot() {
+        return slots.tryAcquire();
+    }
+
+    /**
+     * Gives back a slot reserved with {@link #tryAcquireSlot()}.
+     */
+    public void releaseSlot() {
+        slots.release();
+    }
+
+    /**
+     * Writes every property as one JSON object per line.
+     * Runs in a read-only transaction because PostgreSQL only honours the fetch size
+     * (and so only uses a cursor) with auto-commit disabled.
+     *
+     * @param out Target stream; not closed by this method
+     * @param includeHistory Whether archived (sold/rented) listings are included
+     * @throws IllegalStateException if the export runs past fonet.export.max-duration-seconds
+     */
+    public void exportNdjson(OutputStream out, boolean includeHistory) {
+        String sql = PropertyDTORowMapper.SELECT + "WHERE NOT p.deleted " + (includeHistory ? "" : "AND NOT p.archived ") + "ORDER BY p.id";
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(maxDurationSeconds);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            // The export legitimately outlives the pool-wide statement_timeout, but keeps a deadline of its own.
+            cursorJdbcTemplate.execute("SET LOCAL statement_timeout = " + TimeUnit.SECONDS.toMillis(maxDurationSeconds));
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                int[] rows = {0};
+                cursorJdbcTemplate.query(sql, rs -> {
+                    // A slow reader keeps the transaction open between fetches, where statement_timeout does not apply.
+                    if (System.nanoTime() - deadline > 0) {
+                        throw new IllegalStateException("Export exceeded " + maxDurationSeconds + " s");
+                    }
+                    try {
+                        generator.writeObject(PropertyDTORowMapper.INSTANCE.mapRow(rs, rows[0]));
+                        generator.writeRaw('\n');
+                        if (++rows[0] == 1 || rows[0] % FLUSH_EVERY_ROWS == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
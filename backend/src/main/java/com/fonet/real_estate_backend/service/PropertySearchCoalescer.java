@@ -0,0 +1,135 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.dto.PropertyFieldSet;
+import com.fonet.real_estate_backend.dto.PropertySearchCriteria;
+import com.fonet.real_estate_backend.model.HeatingType;
+import com.fonet.real_estate_backend.model.NumberOfRooms;
+import com.fonet.real_estate_backend.model.PropertyStatus;
+import com.fonet.real_estate_backend.model.PropertyType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight front for property searches.
+ * Concurrent callers with equivalent criteria share one in-flight execution of
+ * {@link PropertyService#searchProperties} and its result; nothing is kept once the query
+ * finishes, so this is not a cache. The key includes the property change watermark the caller
+ * read, so a request that already saw a write never joins a query that may predate it.
+ */
+@Service
+public class PropertySearchCoalescer {
+
+    private static final String UNKNOWN = "?";
+
+    @Autowired
+    private PropertyService propertyService;
+
+    private final Map<SearchKey, CompletableFuture<List<?>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Searches properties, joining an identical search already in flight if there is one.
+     *
+     * @param criteria Search filters
+     * @param fieldSet Compiled sparse fieldset, or null for full DTOs
+     * @param watermark Property change watermark read by the caller (also its ETag)
+     * @return Search results; shared with the other callers of the same flight and must not be modified
+     */
+    public List<?> search(PropertySearchCriteria criteria, PropertyFieldSet fieldSet, long watermark) {
+        SearchKey key = SearchKey.of(criteria, fieldSet, watermark);
+        return coalesce(key, () -> fieldSet != null
+                ? propertyService.searchProperties(criteria, fieldSet)
+                : propertyService.searchProperties(criteria));
+    }
+
+    private List<?> coalesce(SearchKey key, Supplier<List<?>> query) {
+        CompletableFuture<List<?>> flight = new CompletableFuture<>();
+        CompletableFuture<List<?>> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return await(leader);
+        }
+        try {
+            List<?> results = query.get();
+            flight.complete(results);
+            return results;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Waits for the leader's result. The leader's query runs under its transaction deadline,
+     * so followers are bounded by the same timeout and receive the same exception on failure.
+     */
+    private static List<?> await(CompletableFuture<List<?>> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Canonical form of a search: enum filters resolved to constants, the address folded the way
+     * the LIKE predicate folds it, empty filters dropped and the ID list sorted and de-duplicated.
+     * Also keys the {@link LastKnownGoodCache} snapshots of searches, there with watermark 0.
+     */
+    record SearchKey(long watermark, String propertyType, String propertyStatus, String address,
+                             String heatingType, String numberOfRooms, Integer floor,
+                             Double minPrice, Double maxPrice, Double minArea, Double maxArea,
+                             List<Long> ids, Long ownerId, Long listerId, boolean includeHistory,
+                             boolean collapseDuplicates, PropertyFieldSet fieldSet) {
+
+        static SearchKey of(PropertySearchCriteria criteria, PropertyFieldSet fieldSet, long watermark) {
+            return new SearchKey(
+                    watermark,
+                    canonical(criteria.getPropertyType(), PropertyType::fromValue),
+                    canonical(criteria.getPropertyStatus(), PropertyStatus::fromValue),
+                    isBlank(criteria.getAddress()) ? null : criteria.getAddress().toLowerCase(),
+                    canonical(criteria.getHeatingType(), HeatingType::fromValue),
+                    canonical(criteria.getNumberOfRooms(), NumberOfRooms::fromValue),
+                    criteria.getFloor(),
+                    criteria.getMinPrice(),
+                    criteria.getMaxPrice(),
+                    criteria.getMinArea(),
+                    criteria.getMaxArea(),
+                    criteria.getIds() != null ? criteria.getIds().stream().distinct().sorted().toList() : null,
+                    criteria.getOwnerId(),
+                    criteria.getListerId(),
+                    criteria.isIncludeHistory(),
+                    criteria.isCollapseDuplicates(),
+                    fieldSet);
+        }
+
+        /**
+         * Unknown values all select nothing, so they share one canonical form.
+         */
+        private static String canonical(String value, Function<String, ? extends Enum<?>> lookup) {
+            if (isBlank(value)) {
+                return null;
+            }
+            Enum<?> constant = lookup.apply(value);
+            return constant != null ? constant.name() : UNKNOWN;
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.isEmpty();
+        }
+    }
+}
@@ -1,72 +1,230 @@
 package com.fonet.real_estate_backend.service;
 
 import com.fonet.real_estate_backend.dto.PropertyDTO;
+import com.fonet.real_estate_backend.dto.PropertyDetailDTO;
+import com.fonet.real_estate_backend.dto.PropertyFieldSet;
+import com.fonet.real_estate_backend.dto.PropertySearchCriteria;
+import com.fonet.real_estate_backend.model.Customer;
 import com.fonet.real_estate_backend.model.Property;
+import com.fonet.real_estate_backend.model.Role;
+import com.fonet.real_estate_backend.model.User;
+import com.fonet.real_estate_backend.repository.CustomerRepository;
 import com.fonet.real_estate_backend.repository.PropertyRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
 import static com.fonet.real_estate_backend.repository.PropertySpecification.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Service class for property-related business logic operations.
  * Handles complex property search functionality using JPA Specifications
  * and entity-to-DTO conversion for API responses.
+ * Read methods run in transactions with a deadline; Spring applies the remaining time
+ * as the JDBC query timeout, which makes the driver cancel the statement in PostgreSQL.
  */
 @Service
 public class PropertyService {
 
+    private static final String UPLOAD_DIR = "uploads/";
+
     @Autowired
     private PropertyRepository propertyRepository;
 
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ImageCleanupService imageCleanupService;
+
+    @Autowired
+    private DuplicateListingIndex duplicateListingIndex;
+
+    @Autowired
+    private PropertyEventBus propertyEventBus;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
      * Performs advanced property search using multiple criteria.
      * Combines various search specifications to create a dynamic query
      * and converts results to DTOs for API response.
      *
-     * @param propertyType Type of property (apartment, house, etc.)
-     * @param propertyStatus Status of property (for sale, for rent, etc.)
-     * @param address Location-based search term
-     * @param heatingType Type of heating system
-     * @param numberOfRooms Number of rooms in the property
-     * @param floor Floor number
-     * @param minPrice Minimum price filter
-     * @param maxPrice Maximum price filter
-     * @param minArea Minimum area filter in square meters
-     * @param maxArea Maximum area filter in square meters
+     * @param criteria Search filters (type, status, address, heating, rooms, floor, price and area ranges)
      * @return List of PropertyDTO objects matching the search criteria
      */
-    public List<PropertyDTO> searchProperties(String propertyType,
-                                              String propertyStatus,
-                                              String address,
-                                              String heatingType,
-                                              String numberOfRooms,
-                                              Integer floor,
-                                              Double minPrice,
-                                              Double maxPrice,
-                                              Double minArea,
-                                              Double maxArea) {
-
-        Specification<Property> spec = Specification
-                .where(hasPropertyType(propertyType))
-                .and(hasPropertyStatus(propertyStatus))
-                .and(addressContains(address))
-                .and(hasHeatingType(heatingType))
-                .and(hasNumberOfRooms(numberOfRooms))
-                .and(hasFloor(floor))
-                .and(hasMinPrice(minPrice))
-                .and(hasMaxPrice(maxPrice))
-                .and(hasMinArea(minArea))
-                .and(hasMaxArea(maxArea));
-
-        List<Property> properties = propertyRepository.findAll(spec);
+    @Transactional(readOnly = true, timeoutString = "${fonet.query.search-timeout-seconds:3}")
+    public List<PropertyDTO> searchProperties(PropertySearchCriteria criteria) {
+        List<Property> properties = propertyRepository.findAll(matching(criteria));
 
         return properties.stream()
                 .map(this::convertToDTO)
                 .toList();
     }
 
+    /**
+     * Performs the property search with a sparse fieldset.
+     * Only the columns needed by the requested fields are selected, and each row is returned
+     * as a map holding exactly those fields.
+     *
+     * @param criteria Search filters
+     * @param fieldSet Compiled set of requested fields
+     * @return List of field maps for the properties matching the search criteria
+     */
+    @Transactional(readOnly = true, timeoutString = "${fonet.query.search-timeout-seconds:3}")
+    public List<Map<String, Object>> searchProperties(PropertySearchCriteria criteria, PropertyFieldSet fieldSet) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Property> root = query.from(Property.class);
+        Join<Property, Customer> owner = fieldSet.joinsOwner() ? root.join("owner", JoinType.LEFT) : null;
+
+        List<Selection<?>> selections = new ArrayList<>(fieldSet.getPaths().size());
+        for (String path : fieldSet.getPaths()) {
+            if (path.equals("owner.id")) {
+                selections.add(root.get("owner").get("id"));
+            } else if (path.startsWith("owner.")) {
+                selections.add(owner.get(path.substring("owner.".length())));
+            } else {
+                selections.add(root.get(path));
+            }
+        }
+        query.multiselect(selections);
+        query.where(matching(criteria).toPredicate(root, query, cb));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(fieldSet::toMap)
+                .toList();
+    }
+
+    /**
+     * Retrieves all active (non-archived) properties as DTOs.
+     *
+     * @return List of PropertyDTO objects for all active properties
+     */
+    @Transactional(readOnly = true, timeoutString = "${fonet.query.list-timeout-seconds:5}")
+    public List<PropertyDTO> findActiveProperties() {
+        return propertyRepository.findByArchivedFalse().stream()
+                .map(this::convertToDTO)
+                .toList();
+    }
+
+    /**
+     * Creates a property with its uploaded images in one transaction.
+     * The lister is the authenticated user; a business lists on behalf of the given owner, a customer
+     * always owns what they list. Related rows are attached as references, so the create costs the
+     * INSERT (plus the owner ID lookup for customers) and no entity loads. Image files are written
+     * first and deleted again if the transaction rolls back. Suspected near-duplicates of an existing
+     * listing are flagged through duplicateOf.
+     *
+     * @param property The property data to create
+     * @param files Optional image files to store with the property
+     * @param ownerId ID of the owning customer (business listers only)
+     * @param user The authenticated customer or business user
+     * @return The created property
+     * @throws IOException if an image file cannot be written
+     * @throws IllegalArgumentException if the user cannot list properties or the owner does not exist
+     */
+    @Transactional(rollbackFor = IOException.class)
+    public Property createProperty(Property property, MultipartFile[] files, Long ownerId, User user) throws IOException {
+        Long resolvedOwnerId;
+        if (Role.BUSINESS.equals(user.getRole())) {
+            resolvedOwnerId = ownerId;
+        } else if (Role.CUSTOMER.equals(user.getRole())) {
+            resolvedOwnerId = customerRepository.findIdByUserId(user.getId())
+                    .orElseThrow(() -> new IllegalStateException("Customer profile not found"));
+        } else {
+            throw new IllegalArgumentException("Only customer or business accounts can create properties.");
+        }
+        if (resolvedOwnerId == null) {
+            throw new IllegalArgumentException("Customer not found");
+        }
+
+        List<String> imageUrls = new ArrayList<>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    imageCleanupService.enqueue(imageUrls);
+                }
+            }
+        });
+        if (files != null) {
+            Path uploadPath = Paths.get(UPLOAD_DIR);
+            if (!Files.exists(uploadPath)) Files.createDirectories(uploadPath);
+
+            for (MultipartFile file : files) {
+                String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
+                Files.copy(file.getInputStream(), uploadPath.resolve(fileName));
+                imageUrls.add("/" + UPLOAD_DIR + fileName);
+            }
+        }
+
+        property.setId(null);
+        property.setImageUrls(new ArrayList<>(imageUrls));
+        property.setOwner(customerRepository.getReferenceById(resolvedOwnerId));
+        property.setLister(user);
+        property.setDuplicateOf(existingOriginal(duplicateListingIndex.findDuplicateOf(property)));
+        // Flushed here so a missing owner fails inside this method, as a constraint violation.
+        Property saved = propertyRepository.saveAndFlush(property);
+        propertyEventBus.publish(PropertyEvent.Type.CREATED, saved.getId());
+        return saved;
+    }
+
+    /**
+     * Saves changes to an existing property after re-checking it for duplicates.
+     * A listing that others are flagged as duplicates of stays an original.
+     *
+     * @param property The modified property
+     * @return The saved property
+     */
+    @Transactional
+    public Property updateProperty(Property property) {
+        property.setDuplicateOf(propertyRepository.existsByDuplicateOf(property.getId())
+                ? null : existingOriginal(duplicateListingIndex.findDuplicateOf(property)));
+        Property saved = propertyRepository.save(property);
+        propertyEventBus.publish(PropertyEvent.Type.UPDATED, saved.getId());
+        return saved;
+    }
+
+    /**
+     * The duplicate index follows the database through the event bus and may still hold a listing that
+     * was just deleted; such a target would fail the duplicate_of foreign key, so it is checked first.
+     */
+    private Long existingOriginal(Long candidateId) {
+        return candidateId != null && propertyRepository.existsById(candidateId) ? candidateId : null;
+    }
+
+    /**
+     * Deletes a property.
+     *
+     * @param property The property to delete
+     */
+    @Transactional
+    public void deleteProperty(Property property) {
+        propertyRepository.delete(property);
+        propertyEventBus.publish(PropertyEvent.Type.DELETED, property.getId());
+    }
+
     /**
      * Converts Property entity to PropertyDTO for API responses.
      * Maps entity fields to DTO fields and handles null safety for related objects.
@@ -76,17 +234,64 @@ public class PropertyService {
      * @return PropertyDTO containing mapped property information
      */
     public PropertyDTO convertToDTO(Property p) {
-        PropertyDTO dto = new PropertyDTO();
+        return fillDTO(new PropertyDTO(), p);
+    }
+
+    /**
+     * Loads a property for the detail page with a single fetch-join query
+     * and converts it, including its lister, to a PropertyDetailDTO.
+     *
+     * @param id The ID of the property
+     * @return Optional containing the detail DTO if found, empty otherwise
+     */
+    @Transactional(readOnly = true)
+    public Optional<PropertyDetailDTO> findPropertyDetail(Long id) {
+        return propertyRepository.findDetailById(id).map(p -> {
+            PropertyDetailDTO dto = fillDTO(new PropertyDetailDTO(), p);
+            dto.setVersion(p.getVersion());
+            User lister = p.getLister();
+            if (lister != null) {
+                dto.setLister(new PropertyDetailDTO.Lister(lister.getId(), lister.getEmail(),
+                        lister.getRole() != null ? lister.getRole().name() : null));
+            }
+            dto.setETag(detailETag(p.getVersion(), p.getOwner() != null ? p.getOwner().getVersion() : null,
+                    lister != null ? lister.getVersion() : null, p.getDuplicateOf()));
+            return dto;
+        });
+    }
+
+    /**
+     * Computes the detail ETag of a property without loading it.
+     *
+     * @param id The ID of the property
+     * @return Optional containing the ETag if the property exists, empty otherwise
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findPropertyDetailETag(Long id) {
+        return propertyRepository.findDetailVersionsById(id)
+                .map(v -> detailETag(v.getVersion(), v.getOwnerVersion(), v.getListerVersion(), v.getDuplicateOf()));
+    }
+
+    /**
+     * The owner and lister have their own versions, and duplicate_of is cleared by ON DELETE SET NULL
+     * without a version bump, so all of them are part of the tag.
+     */
+    private static String detailETag(Long version, Long ownerVersion, Long listerVersion, Long duplicateOf) {
+        return "\"" + version + "-" + ownerVersion + "-" + listerVersion + "-" + duplicateOf + "\"";
+    }
+
+    private <T extends PropertyDTO> T fillDTO(T dto, Property p) {
         dto.setId(p.getId());
         dto.setPropertyType(p.getPropertyType());
         dto.setArea(p.getArea());
-        dto.setNumberOfRooms(String.valueOf(p.getNumberOfRooms()));
+        dto.setNumberOfRooms(p.getNumberOfRooms() != null ? p.getNumberOfRooms().name() : null);
         dto.setFloor(p.getFloor());
         dto.setHeatingType(p.getHeatingType());
         dto.setAddress(p.getAddress());
         dto.setDescription(p.getDescription());
         dto.setPrice(p.getPrice());
         dto.setPropertyStatus(p.getPropertyStatus());
+        dto.setDuplicateOf(p.getDuplicateOf());
 
         if (p.getOwner() != null) {
             dto.setOwnerId(p.getOwner().getId());
@@ -0,0 +1,235 @@
+package com.fonet.real_estate_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind popularity counters for listings.
+ * Views and contact clicks are counted in striped, lock-free LongAdders on the request path and
+ * flushed to property_stats on a fixed interval with one batched upsert, so reads never cause
+ * a per-request UPDATE. A crash loses at most one flush interval of counts; a failed flush loses none.
+ */
+@Service
+public class PropertyStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyStatsService.class);
+
+    /**
+     * Contact clicks are much rarer and stronger signals than views.
+     */
+    private static final int CONTACT_CLICK_WEIGHT = 10;
+
+    /**
+     * Adds the counts of all listings in one statement; rows of deleted listings are dropped by the join.
+     */
+    private static final String UPSERT_SQL = """
+            INSERT INTO property_stats (property_id, detail_views, image_views, contact_clicks)
+            SELECT s.property_id, s.detail_views, s.image_views, s.contact_clicks
+            FROM unnest(?::bigint[], ?::bigint[], ?::bigint[], ?::bigint[])
+                 AS s(property_id, detail_views, image_views, contact_clicks)
+            JOIN property p ON p.id = s.property_id
+            ON CONFLICT (property_id) DO UPDATE SET
+                detail_views = property_stats.detail_views + EXCLUDED.detail_views,
+                image_views = property_stats.image_views + EXCLUDED.image_views,
+                contact_clicks = property_stats.contact_clicks + EXCLUDED.contact_clicks
+            """;
+
+    private static final String SCORE_SQL = """
+            SELECT property_id, detail_views + image_views + %d * contact_clicks AS score
+            FROM property_stats
+            WHERE property_id = ANY(?::bigint[])
+            """.formatted(CONTACT_CLICK_WEIGHT);
+
+    /**
+     * Kinds of listing interactions that are counted.
+     */
+    public enum EventType {
+        DETAIL_VIEW, IMAGE_VIEW, CONTACT_CLICK
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${fonet.stats.max-tracked-listings:100000}")
+    private int maxTrackedListings;
+
+    private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Counters evicted by the previous flush; only touched under {@code flushLock}.
+     */
+    private Map<Long, Counters> retired = new HashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * Interactions are only counted while the instance is ready, so startup warm-up requests
+     * do not inflate popularity.
+     */
+    private volatile boolean acceptingTraffic;
+
+    @EventListener
+    void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        acceptingTraffic = event.getState() == ReadinessState.ACCEPTING_TRAFFIC;
+    }
+
+    /**
+     * Counts one interaction with a listing. Lock-free; never touches the database.
+     * Interactions are dropped while the number of listings with unflushed counts is at its limit.
+     *
+     * @param propertyId The ID of the listing
+     * @param type The kind of interaction
+     */
+    public void record(Long propertyId, EventType type) {
+        if (!acceptingTraffic) {
+            return;
+        }
+        Counters listing = counters.get(propertyId);
+        if (listing == null) {
+            if (counters.size() >= maxTrackedListings) {
+                return;
+            }
+            listing = counters.computeIfAbsent(propertyId, id -> new Counters());
+        }
+        listing.get(type).increment();
+    }
+
+    /**
+     * Writes the counts accumulated since the last flush with one batched upsert.
+     * Listings without new counts are dropped from memory. If the upsert fails, the counts are
+     * added back and written by a later flush.
+     */
+    @Scheduled(fixedDelayString = "${fonet.stats.flush-interval-ms:10000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, long[]> deltas = new LinkedHashMap<>();
+            Map<Long, Counters> evicted = new HashMap<>();
+            for (Map.Entry<Long, Counters> entry : counters.entrySet()) {
+                long[] delta = entry.getValue().drain();
+                if (isZero(delta)) {
+                    if (counters.remove(entry.getKey(), entry.getValue())) {
+                        evicted.put(entry.getKey(), entry.getValue());
+                    }
+                } else {
+                    deltas.merge(entry.getKey(), delta, PropertyStatsService::add);
+                }
+            }
+            // A writer may have picked up an evicted Counters just before its removal; its increments
+            // land in the object and are collected here, one flush later.
+            for (Map.Entry<Long, Counters> entry : retired.entrySet()) {
+                long[] delta = entry.getValue().drain();
+                if (!isZero(delta)) {
+                    deltas.merge(entry.getKey(), delta, PropertyStatsService::add);
+                }
+            }
+            retired = evicted;
+            if (!deltas.isEmpty()) {
+                write(deltas);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(Map<Long, long[]> deltas) {
+        Long[] ids = deltas.keySet().toArray(Long[]::new);
+        Long[][] columns = new Long[3][ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            long[] delta = deltas.get(ids[i]);
+            for (int column = 0; column < 3; column++) {
+                columns[column][i] = delta[column];
+            }
+        }
+        try {
+            jdbcTemplate.update(UPSERT_SQL, ps -> {
+                Connection connection = ps.getConnection();
+                ps.setArray(1, connection.createArrayOf("bigint", ids));
+                ps.setArray(2, connection.createArrayOf("bigint", columns[0]));
+                ps.setArray(3, connection.createArrayOf("bigint", columns[1]));
+                ps.setArray(4, connection.createArrayOf("bigint", columns[2]));
+            });
+        } catch (DataAccessException e) {
+            log.warn("Could not flush popularity counters of {} listings; keeping them for the next flush", ids.length, e);
+            deltas.forEach((id, delta) -> counters.computeIfAbsent(id, key -> new Counters()).add(delta));
+        }
+    }
+
+    private static boolean isZero(long[] delta) {
+        return delta[0] == 0 && delta[1] == 0 && delta[2] == 0;
+    }
+
+    private static long[] add(long[] a, long[] b) {
+        return new long[]{a[0] + b[0], a[1] + b[1], a[2] + b[2]};
+    }
+
+    /**
+     * Flushes the remaining counts on a graceful shutdown.
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Reads the popularity scores of the given listings from the flushed counters.
+     *
+     * @param propertyIds IDs of the listings
+     * @return Score per listing ID; listings without counters are absent
+     */
+    public Map<Long, Long> scores(Collection<Long> propertyIds) {
+        Map<Long, Long> scores = new HashMap<>();
+        if (propertyIds.isEmpty()) {
+            return scores;
+        }
+        jdbcTemplate.query(SCORE_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", propertyIds.toArray())),
+                rs -> {
+                    scores.put(rs.getLong("property_id"), rs.getLong("score"));
+                });
+        return scores;
+    }
+
+    private static final class Counters {
+        private final LongAdder detailViews = new LongAdder();
+        private final LongAdder imageViews = new LongAdder();
+        private final LongAdder contactClicks = new LongAdder();
+
+        LongAdder get(EventType type) {
+            return switch (type) {
+                case DETAIL_VIEW -> detailViews;
+                case IMAGE_VIEW -> imageViews;
+                case CONTACT_CLICK -> contactClicks;
+            };
+        }
+
+        long[] drain() {
+            return new long[]{detailViews.sumThenReset(), imageViews.sumThenReset(), contactClicks.sumThenReset()};
+        }
+
+        void add(long[] delta) {
+            detailViews.add(delta[0]);
+            imageViews.add(delta[1]);
+            contactClicks.add(delta[2]);
+        }
+    }
+}
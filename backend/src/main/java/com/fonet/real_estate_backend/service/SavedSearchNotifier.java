@@ -0,0 +1,191 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.dto.SavedSearchMatch;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers saved-search matches to connected users over server-sent events.
+ * Matches are queued per stream and flushed on a fixed interval as one "matches" event holding
+ * every match since the last flush, so a burst of listings costs one write per connection.
+ * The flush only hands the writes to a small delivery pool; each stream has at most one write in
+ * flight, a slow client only fills its own bounded queue, and a stream whose write takes longer than
+ * the send timeout, or fails, is dropped. Matches for users without an open stream are not kept.
+ */
+@Service
+public class SavedSearchNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchNotifier.class);
+
+    private final Map<Long, List<Stream>> streams = new ConcurrentHashMap<>();
+
+    @Value("${fonet.saved-search.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    @Value("${fonet.saved-search.max-pending-per-user:500}")
+    private int maxPendingPerUser;
+
+    @Value("${fonet.saved-search.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${fonet.saved-search.delivery-threads:4}")
+    private int deliveryThreads;
+
+    /**
+     * Not a bean, so it does not take the place of Boot's applicationTaskExecutor.
+     */
+    private final ThreadPoolTaskExecutor deliveryExecutor = new ThreadPoolTaskExecutor();
+
+    @PostConstruct
+    void init() {
+        deliveryExecutor.setCorePoolSize(deliveryThreads);
+        deliveryExecutor.setMaxPoolSize(deliveryThreads);
+        deliveryExecutor.setThreadNamePrefix("sse-delivery-");
+        deliveryExecutor.initialize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        deliveryExecutor.shutdown();
+    }
+
+    /**
+     * Opens an event stream for a user. A user may have several streams (tabs, devices).
+     *
+     * @param userId The ID of the authenticated user
+     * @return The emitter to return from the handler
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        Stream stream = new Stream(userId, emitter);
+        streams.computeIfAbsent(userId, id -> new CopyOnWriteArrayList<>()).add(stream);
+        emitter.onCompletion(stream::unsubscribe);
+        emitter.onTimeout(stream::unsubscribe);
+        emitter.onError(e -> stream.unsubscribe());
+        return emitter;
+    }
+
+    /**
+     * Queues a match on every open stream of the user for delivery with the next flush.
+     * Dropped if the user has no open stream; a stream that already has too many undelivered
+     * matches skips it.
+     *
+     * @param userId The ID of the user owning the saved search
+     * @param match The match to deliver
+     */
+    public void enqueue(Long userId, SavedSearchMatch match) {
+        List<Stream> userStreams = streams.get(userId);
+        if (userStreams == null) {
+            return;
+        }
+        for (Stream stream : userStreams) {
+            if (stream.size.incrementAndGet() > maxPendingPerUser) {
+                stream.size.decrementAndGet();
+                continue;
+            }
+            stream.matches.add(match);
+        }
+    }
+
+    /**
+     * Hands each stream's queued matches to the delivery pool as one batched event, and drops
+     * streams whose previous write has been blocked for longer than the send timeout.
+     */
+    @Scheduled(fixedDelayString = "${fonet.saved-search.delivery-interval-ms:1000}")
+    public void flush() {
+        long now = System.nanoTime();
+        for (List<Stream> userStreams : streams.values()) {
+            for (Stream stream : userStreams) {
+                long sendingSince = stream.sendingSince.get();
+                if (sendingSince != 0) {
+                    if (now - sendingSince > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs)) {
+                        stream.drop(new IOException("Send blocked for more than " + sendTimeoutMs + " ms"));
+                    }
+                    continue;
+                }
+                if (stream.size.get() == 0 || !stream.sendingSince.compareAndSet(0, now)) {
+                    continue;
+                }
+                try {
+                    deliveryExecutor.execute(stream::send);
+                } catch (RejectedExecutionException e) {
+                    stream.sendingSince.set(0);
+                }
+            }
+        }
+    }
+
+    private final class Stream {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<SavedSearchMatch> matches = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        /**
+         * System.nanoTime() at which the write in flight was handed out; 0 while idle.
+         */
+        private final AtomicLong sendingSince = new AtomicLong();
+
+        Stream(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void send() {
+            try {
+                List<SavedSearchMatch> batch = drain();
+                if (!batch.isEmpty()) {
+                    emitter.send(SseEmitter.event().name("matches").data(batch, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                drop(e);
+            } finally {
+                sendingSince.set(0);
+            }
+        }
+
+        void drop(Exception cause) {
+            log.debug("Dropping saved-search stream of user {}", userId, cause);
+            unsubscribe();
+            emitter.completeWithError(cause);
+        }
+
+        void unsubscribe() {
+            streams.computeIfPresent(userId, (id, list) -> {
+                list.remove(this);
+                return list.isEmpty() ? null : list;
+            });
+        }
+
+        private List<SavedSearchMatch> drain() {
+            List<SavedSearchMatch> batch = new ArrayList<>();
+            SavedSearchMatch match;
+            while ((match = matches.poll()) != null) {
+                size.decrementAndGet();
+                batch.add(match);
+            }
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.dto.SavedSearchMatch;
+import com.fonet.real_estate_backend.model.HeatingType;
+import com.fonet.real_estate_backend.model.NumberOfRooms;
+import com.fonet.real_estate_backend.model.PropertyStatus;
+import com.fonet.real_estate_backend.model.PropertyType;
+import com.fonet.real_estate_backend.model.SavedSearch;
+import com.fonet.real_estate_backend.repository.PropertyRepository;
+import com.fonet.real_estate_backend.repository.SavedSearchRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Percolator for saved searches: instead of running every saved search against a new listing,
+ * the listing is run against an index of the saved searches.
+ * Each enum filter has posting lists (searches requiring a value, plus searches leaving the filter
+ * open), and price and area bounds live in interval trees. A listing takes the smallest posting
+ * union of its four enum values or, when those are all large, the smaller price/area stabbing
+ * result as candidates, and only those are checked against the remaining filters.
+ * The index is immutable and rebuilt when saved searches change, which is rare compared to listing writes.
+ * Listing changes arrive through the {@link PropertyEventBus}; only the filtered fields are read, and
+ * a listing is notified only for searches it did not already match when it was last seen, so
+ * updates that leave the match set unchanged (archival runs, bulk updates of other fields)
+ * notify nobody.
+ */
+@Service
+public class SavedSearchPercolator implements PropertyEventConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchPercolator.class);
+
+    /**
+     * Below this many enum candidates they are checked directly instead of stabbing the interval trees.
+     */
+    private static final int DIRECT_CHECK_LIMIT = 64;
+
+    @Autowired
+    private SavedSearchRepository savedSearchRepository;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private SavedSearchNotifier savedSearchNotifier;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Compiled saved searches by ID; guarded by {@code lock}.
+     */
+    private final Map<Long, CompiledSearch> searches = new HashMap<>();
+
+    private volatile QueryIndex index = new QueryIndex(List.of());
+
+    @Value("${fonet.saved-search.remembered-listings:100000}")
+    private int rememberedListings;
+
+    /**
+     * Saved searches each recently seen listing matched, least recently seen first. Only touched
+     * by the event bus thread of this consumer.
+     */
+    private Map<Long, Set<Long>> lastMatches;
+
+    @PostConstruct
+    void init() {
+        lastMatches = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Set<Long>> eldest) {
+                return size() > rememberedListings;
+            }
+        };
+    }
+
+    /**
+     * Loads all saved searches into the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<CompiledSearch> compiled = savedSearchRepository.findAll().stream()
+                .map(CompiledSearch::of)
+                .toList();
+        lock.lock();
+        try {
+            searches.clear();
+            compiled.forEach(search -> searches.put(search.id, search));
+            index = new QueryIndex(searches.values());
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Loaded {} saved searches into the percolator", compiled.size());
+    }
+
+    /**
+     * Adds or replaces a saved search; applied after commit inside a transaction.
+     *
+     * @param savedSearch The saved search, with its user set
+     */
+    public void put(SavedSearch savedSearch) {
+        CompiledSearch compiled = CompiledSearch.of(savedSearch);
+        afterCommit(() -> {
+            lock.lock();
+            try {
+                searches.put(compiled.id, compiled);
+                index = new QueryIndex(searches.values());
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Removes a saved search; applied after commit inside a transaction.
+     *
+     * @param savedSearchId The ID of the removed saved search
+     */
+    public void remove(Long savedSearchId) {
+        afterCommit(() -> {
+            lock.lock();
+            try {
+                if (searches.remove(savedSearchId) != null) {
+                    index = new QueryIndex(searches.values());
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    @Override
+    public String consumerName() {
+        return "saved-search-percolator";
+    }
+
+    /**
+     * Matches new and updated listings against all saved searches and queues a notification
+     * for each match. Archived and deleted listings never match.
+     *
+     * @param events Committed listing changes
+     */
+    @Override
+    public void onPropertyEvents(List<PropertyEvent> events) {
+        Set<Long> changedIds = new LinkedHashSet<>();
+        for (PropertyEvent event : events) {
+            if (event.type() == PropertyEvent.Type.DELETED) {
+                changedIds.remove(event.propertyId());
+                lastMatches.remove(event.propertyId());
+            } else {
+                changedIds.add(event.propertyId());
+            }
+        }
+        if (changedIds.isEmpty()) {
+            return;
+        }
+        Set<Long> activeIds = new HashSet<>();
+        for (PropertyRepository.MatchFields fields : propertyRepository.findMatchFieldsByIdIn(changedIds)) {
+            activeIds.add(fields.getId());
+            Listing listing = Listing.of(fields);
+            Set<Long> matched = new HashSet<>();
+            Set<Long> previous = lastMatches.getOrDefault(listing.id, Set.of());
+            for (CompiledSearch search : match(listing)) {
+                matched.add(search.id);
+                if (!previous.contains(search.id)) {
+                    savedSearchNotifier.enqueue(search.userId, new SavedSearchMatch(search.id, listing.id,
+                            listing.propertyType, listing.propertyStatus, listing.address, listing.price, listing.area));
+                }
+            }
+            if (matched.isEmpty()) {
+                lastMatches.remove(listing.id);
+            } else {
+                lastMatches.put(listing.id, matched);
+            }
+        }
+        // Archived (or since deleted) listings match nothing; a later reactivation notifies again.
+        changedIds.removeAll(activeIds);
+        changedIds.forEach(lastMatches::remove);
+    }
+
+    /**
+     * Returns the saved searches a listing matches.
+     *
+     * @param listing The listing values
+     * @return Matching saved searches
+     */
+    List<CompiledSearch> match(Listing listing) {
+        QueryIndex current = index;
+        List<CompiledSearch> matches = new ArrayList<>();
+
+        List<List<CompiledSearch>> anchor = current.smallestEnumCandidates(listing);
+        int anchorSize = anchor.stream().mapToInt(List::size).sum();
+        if (anchorSize > DIRECT_CHECK_LIMIT) {
+            List<CompiledSearch> byPrice = new ArrayList<>();
+            current.byPrice.stab(listing.price, byPrice::add);
+            List<CompiledSearch> byRange = byPrice;
+            if (byPrice.size() > DIRECT_CHECK_LIMIT) {
+                List<CompiledSearch> byArea = new ArrayList<>();
+                current.byArea.stab(listing.area, byArea::add);
+                if (byArea.size() < byRange.size()) {
+                    byRange = byArea;
+                }
+            }
+            if (byRange.size() < anchorSize) {
+                anchor = List.of(byRange);
+            }
+        }
+        for (List<CompiledSearch> candidates : anchor) {
+            for (CompiledSearch search : candidates) {
+                if (search.matches(listing)) {
+                    matches.add(search);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Listing values needed for matching.
+     */
+    record Listing(Long id, PropertyType propertyType, PropertyStatus propertyStatus, HeatingType heatingType,
+                   NumberOfRooms numberOfRooms, int floor, String address, double price, double area) {
+
+        static Listing of(PropertyRepository.MatchFields p) {
+            return new Listing(p.getId(), p.getPropertyType(), p.getPropertyStatus(), p.getHeatingType(),
+                    p.getNumberOfRooms(), p.getFloor(), p.getAddress(), p.getPrice(), p.getArea());
+        }
+    }
+
+    /**
+     * Saved search reduced to its filters; address is lower-cased like the search's LIKE predicate,
+     * open range bounds are NaN.
+     */
+    record CompiledSearch(Long id, Long userId, PropertyType propertyType, PropertyStatus propertyStatus,
+                          HeatingType heatingType, NumberOfRooms numberOfRooms, Integer floor, String address,
+                          double minPrice, double maxPrice, double minArea, double maxArea) {
+
+        static CompiledSearch of(SavedSearch s) {
+            return new CompiledSearch(s.getId(), s.getUser().getId(), s.getPropertyType(), s.getPropertyStatus(),
+                    s.getHeatingType(), s.getNumberOfRooms(), s.getFloor(),
+                    s.getAddress() != null && !s.getAddress().isEmpty() ? s.getAddress().toLowerCase() : null,
+                    bound(s.getMinPrice()), bound(s.getMaxPrice()), bound(s.getMinArea()), bound(s.getMaxArea()));
+        }
+
+        boolean matches(Listing l) {
+            return (propertyType == null || propertyType == l.propertyType)
+                    && (propertyStatus == null || propertyStatus == l.propertyStatus)
+                    && (heatingType == null || heatingType == l.heatingType)
+                    && (numberOfRooms == null || numberOfRooms == l.numberOfRooms)
+                    && (floor == null || floor == l.floor)
+                    && (Double.isNaN(minPrice) || l.price >= minPrice)
+                    && (Double.isNaN(maxPrice) || l.price <= maxPrice)
+                    && (Double.isNaN(minArea) || l.area >= minArea)
+                    && (Double.isNaN(maxArea) || l.area <= maxArea)
+                    && (address == null || (l.address != null && l.address.toLowerCase().contains(address)));
+        }
+
+        private static double bound(Double value) {
+            return value != null ? value : Double.NaN;
+        }
+    }
+
+    /**
+     * Immutable posting lists and interval trees over a set of compiled searches.
+     */
+    private static final class QueryIndex {
+        private final Postings<PropertyType> byType;
+        private final Postings<PropertyStatus> byStatus;
+        private final Postings<HeatingType> byHeating;
+        private final Postings<NumberOfRooms> byRooms;
+        private final IntervalIndex<CompiledSearch> byPrice;
+        private final IntervalIndex<CompiledSearch> byArea;
+
+        QueryIndex(Collection<CompiledSearch> searches) {
+            List<CompiledSearch> all = List.copyOf(searches);
+            byType = new Postings<>(PropertyType.class, all, CompiledSearch::propertyType);
+            byStatus = new Postings<>(PropertyStatus.class, all, CompiledSearch::propertyStatus);
+            byHeating = new Postings<>(HeatingType.class, all, CompiledSearch::heatingType);
+            byRooms = new Postings<>(NumberOfRooms.class, all, CompiledSearch::numberOfRooms);
+            byPrice = new IntervalIndex<>(all, CompiledSearch::minPrice, CompiledSearch::maxPrice);
+            byArea = new IntervalIndex<>(all, CompiledSearch::minArea, CompiledSearch::maxArea);
+        }
+
+        /**
+         * Candidates from the most selective enum filter: the searches requiring the listing's value
+         * plus the searches that leave that filter open.
+         */
+        List<List<CompiledSearch>> smallestEnumCandidates(Listing l) {
+            List<List<CompiledSearch>> best = byType.candidates(l.propertyType);
+            for (List<List<CompiledSearch>> other : List.of(byStatus.candidates(l.propertyStatus),
+                    byHeating.candidates(l.heatingType), byRooms.candidates(l.numberOfRooms))) {
+                if (size(other) < size(best)) {
+                    best = other;
+                }
+            }
+            return best;
+        }
+
+        private static int size(List<List<CompiledSearch>> lists) {
+            return lists.get(0).size() + lists.get(1).size();
+        }
+    }
+
+    private static final class Postings<E extends Enum<E>> {
+        private final Map<E, List<CompiledSearch>> byValue;
+        private final List<CompiledSearch> open = new ArrayList<>();
+
+        Postings(Class<E> type, List<CompiledSearch> searches, Function<CompiledSearch, E> field) {
+            byValue = new EnumMap<>(type);
+            for (CompiledSearch search : searches) {
+                E value = field.apply(search);
+                if (value == null) {
+                    open.add(search);
+                } else {
+                    byValue.computeIfAbsent(value, v -> new ArrayList<>()).add(search);
+                }
+            }
+        }
+
+        List<List<CompiledSearch>> candidates(E value) {
+            List<CompiledSearch> required = value != null ? byValue.getOrDefault(value, List.of()) : List.of();
+            return List.of(required, open);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.fonet.real_estate_backend.service;
+
+import com.fonet.real_estate_backend.model.NumberOfRooms;
+import com.fonet.real_estate_backend.model.PropertyStatus;
+import com.fonet.real_estate_backend.model.PropertyType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Warms the application up after startup, before it reports ready.
+ * Spring Boot switches readiness to ACCEPTING_TRAFFIC only after all application runners have
+ * completed, so while this runner works the instance keeps refusing traffic. Within a time budget it
+ * opens connections up to the configured pool size, then sends synthetic HTTP requests to its own
+ * public read endpoints (the listing page, popular searches, the most popular listing details),
+ * repeatedly. This compiles Hibernate's criteria queries, lets the JIT optimize the
+ * controller/Jackson paths and fills the last-known-good response cache. When the budget runs out,
+ * the remaining work is abandoned and the instance becomes ready anyway.
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final String HOT_LISTINGS_SQL = """
+            SELECT s.property_id
+            FROM property_stats s
+            JOIN property p ON p.id = s.property_id
+            WHERE NOT p.archived AND NOT p.deleted
+            ORDER BY s.detail_views + s.image_views + 10 * s.contact_clicks DESC
+            LIMIT ?
+            """;
+
+    /**
+     * Saved searches stand in for popular searches: the most common enum filter combinations.
+     */
+    private static final String POPULAR_SEARCHES_SQL = """
+            SELECT property_type, property_status, number_of_rooms
+            FROM saved_search
+            GROUP BY property_type, property_status, number_of_rooms
+            ORDER BY count(*) DESC
+            LIMIT ?
+            """;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${fonet.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${fonet.warmup.budget-ms:60000}")
+    private long budgetMs;
+
+    @Value("${fonet.warmup.pool-connections:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int poolConnections;
+
+    @Value("${fonet.warmup.hot-listings:50}")
+    private int hotListings;
+
+    @Value("${fonet.warmup.popular-searches:20}")
+    private int popularSearches;
+
+    @Value("${fonet.warmup.iterations:20}")
+    private int iterations;
+
+    @Value("${fonet.warmup.concurrency:4}")
+    private int concurrency;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(concurrency, poolConnections), runnable -> {
+            Thread thread = new Thread(runnable, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            primeConnectionPool(executor, deadline);
+            List<String> paths = warmupPaths();
+            int sent = sendRequests(executor, paths, deadline);
+            log.info("Warm-up sent {} requests over {} paths in {} ms", sent, paths.size(),
+                    budgetMs - TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+        } catch (TimeoutException e) {
+            log.warn("Warm-up budget of {} ms exhausted; reporting ready with a partly warm instance", budgetMs);
+        } catch (RuntimeException e) {
+            log.warn("Warm-up failed; reporting ready with a partly warm instance", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Holds the configured number of connections open at the same time, so the pool creates them now
+     * instead of on the first requests.
+     */
+    private void primeConnectionPool(ExecutorService executor, long deadline) throws InterruptedException, TimeoutException {
+        List<Connection> opened = new ArrayList<>();
+        ReentrantLock openedLock = new ReentrantLock();
+        AtomicBoolean released = new AtomicBoolean();
+        List<Future<?>> opening = new ArrayList<>();
+        for (int i = 0; i < poolConnections; i++) {
+            opening.add(executor.submit(() -> {
+                Connection connection = dataSource.getConnection();
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                } catch (SQLException e) {
+                    connection.close();
+                    throw e;
+                }
+                openedLock.lock();
+                try {
+                    if (released.get()) {
+                        connection.close();
+                    } else {
+                        opened.add(connection);
+                    }
+                } finally {
+                    openedLock.unlock();
+                }
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> future : opening) {
+                try {
+                    future.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    log.debug("Warm-up could not open a connection", e.getCause());
+                }
+            }
+        } finally {
+            opening.forEach(future -> future.cancel(true));
+            openedLock.lock();
+            try {
+                released.set(true);
+                for (Connection connection : opened) {
+                    try {
+                        connection.close();
+                    } catch (SQLException e) {
+                        log.debug("Could not return a warm-up connection", e);
+                    }
+                }
+            } finally {
+                openedLock.unlock();
+            }
+        }
+    }
+
+    private List<String> warmupPaths() {
+        List<String> paths = new ArrayList<>();
+        paths.add("/api/properties");
+        paths.add("/api/properties/search");
+        paths.add("/api/properties/search?sort=popularity");
+        jdbcTemplate.query(POPULAR_SEARCHES_SQL, rs -> {
+            StringJoiner query = new StringJoiner("&", "/api/properties/search?", "").setEmptyValue("");
+            short type = rs.getShort("property_type");
+            if (!rs.wasNull()) {
+                query.add("propertyType=" + PropertyType.fromCode(type).name());
+            }
+            short status = rs.getShort("property_status");
+            if (!rs.wasNull()) {
+                query.add("propertyStatus=" + PropertyStatus.fromCode(status).name());
+            }
+            short rooms = rs.getShort("number_of_rooms");
+            if (!rs.wasNull()) {
+                query.add("numberOfRooms=" + NumberOfRooms.fromCode(rooms).name());
+            }
+            if (query.length() > 0) {
+                paths.add(query.toString());
+            }
+        }, popularSearches);
+        jdbcTemplate.query(HOT_LISTINGS_SQL, rs -> {
+            paths.add("/api/properties/" + rs.getLong("property_id"));
+        }, hotListings);
+        return paths;
+    }
+
+    /**
+     * Requests every path once per iteration, with limited concurrency.
+     *
+     * @return Number of requests completed
+     */
+    private int sendRequests(ExecutorService executor, List<String> paths, long deadline)
+            throws InterruptedException, TimeoutException {
+        if (!(applicationContext instanceof WebServerApplicationContext webContext)) {
+            return 0;
+        }
+        String baseUrl = "http://localhost:" + webContext.getWebServer().getPort();
+        HttpClient client = HttpClient.newBuilder().executor(executor).connectTimeout(Duration.ofSeconds(2)).build();
+        int sent = 0;
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            for (int start = 0; start < paths.size(); start += concurrency) {
+                List<Future<HttpResponse<Void>>> inFlight = new ArrayList<>();
+                for (String path : paths.subList(start, Math.min(start + concurrency, paths.size()))) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                            .timeout(Duration.ofNanos(Math.max(remainingNanos(deadline), 1)))
+                            .GET()
+                            .build();
+                    inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+                }
+                for (Future<HttpResponse<Void>> response : inFlight) {
+                    try {
+                        response.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+                        sent++;
+                    } catch (ExecutionException e) {
+                        log.debug("Warm-up request failed", e.getCause());
+                    }
+                }
+            }
+        }
+        return sent;
+    }
+
+    private static long remainingNanos(long deadline) throws TimeoutException {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new TimeoutException();
+        }
+        return remaining;
+    }
+}
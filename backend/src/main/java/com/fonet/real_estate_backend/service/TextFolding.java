@@ -0,0 +1,36 @@
+package com.fonet.real_estate_backend.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Folding of free text for in-memory matching: Turkish lower case, dotless i to i,
+ * diacritics stripped and whitespace collapsed. "IŞIK", "Işık" and "isik" all fold to "isik".
+ */
+final class TextFolding {
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr");
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TextFolding() {
+    }
+
+    /**
+     * Folds a text for matching.
+     *
+     * @param value The raw text
+     * @return The folded form, empty for null
+     */
+    static String fold(String value) {
+        if (value == null) {
+            return "";
+        }
+        String lower = value.toLowerCase(TURKISH).replace('ı', 'i');
+        String stripped = COMBINING_MARKS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(stripped.trim()).replaceAll(" ");
+    }
+}
@@ -0,0 +1,6 @@
+-- Suspected near-duplicate listings point at the listing they duplicate (flagged by
+-- DuplicateListingIndex on create/update). Collapsed searches hide rows whose target is still active.
+ALTER TABLE property ADD COLUMN duplicate_of BIGINT REFERENCES property (id) ON DELETE SET NULL;
+
+-- Serves the ON DELETE SET NULL lookup and the collapse anti-join; only flagged rows are indexed.
+CREATE INDEX ix_property_duplicate_of ON property (duplicate_of) WHERE duplicate_of IS NOT NULL;
@@ -0,0 +1,19 @@
+-- Saved searches: the /api/properties/search filters a user wants to be notified about.
+-- Enum filters use the same SMALLINT codes as the property columns.
+CREATE TABLE saved_search (
+    id              BIGSERIAL PRIMARY KEY,
+    user_id         BIGINT NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    name            VARCHAR(100) NOT NULL,
+    property_type   SMALLINT,
+    property_status SMALLINT,
+    heating_type    SMALLINT,
+    number_of_rooms SMALLINT,
+    floor           INTEGER,
+    address         VARCHAR(255),
+    min_price       DOUBLE PRECISION,
+    max_price       DOUBLE PRECISION,
+    min_area        DOUBLE PRECISION,
+    max_area        DOUBLE PRECISION
+);
+
+CREATE INDEX ix_saved_search_user_id ON saved_search (user_id);
@@ -0,0 +1,7 @@
+-- Per-listing popularity counters, written behind by PropertyStatsService in periodic batched upserts.
+CREATE TABLE property_stats (
+    property_id    BIGINT PRIMARY KEY REFERENCES property (id) ON DELETE CASCADE,
+    detail_views   BIGINT NOT NULL DEFAULT 0,
+    image_views    BIGINT NOT NULL DEFAULT 0,
+    contact_clicks BIGINT NOT NULL DEFAULT 0
+);
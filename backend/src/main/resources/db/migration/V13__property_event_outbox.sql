@@ -0,0 +1,16 @@
+-- Transactional outbox of property lifecycle events, written in the transaction of the change.
+-- Consumers of the in-process event bus replay it after a restart, a failure or a ring overflow.
+CREATE TABLE property_event (
+    id          BIGSERIAL PRIMARY KEY,
+    event_type  SMALLINT    NOT NULL,
+    property_id BIGINT      NOT NULL,
+    created_at  TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX ix_property_event_created_at ON property_event (created_at);
+
+-- Highest outbox event ID each consumer has handled.
+CREATE TABLE property_event_checkpoint (
+    consumer      VARCHAR(64) PRIMARY KEY,
+    last_event_id BIGINT      NOT NULL
+);
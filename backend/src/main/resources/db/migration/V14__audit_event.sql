@@ -0,0 +1,14 @@
+-- Audit records exported from the memory-mapped audit log (AuditLogExporter).
+-- (segment, slot) identifies a record in the log, so re-exporting a segment is harmless.
+CREATE TABLE audit_event (
+    segment     BIGINT      NOT NULL,
+    slot        INT         NOT NULL,
+    occurred_at TIMESTAMPTZ NOT NULL,
+    actor_id    BIGINT,
+    entity_type SMALLINT    NOT NULL,
+    action      SMALLINT    NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    PRIMARY KEY (segment, slot)
+);
+
+CREATE INDEX ix_audit_event_entity ON audit_event (entity_type, entity_id, occurred_at);
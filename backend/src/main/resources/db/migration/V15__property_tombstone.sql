@@ -0,0 +1,17 @@
+-- Tombstone for listings of a deleted customer. Set once by AccountDeletionService and never cleared,
+-- unlike archived, which status changes reset; every read leaves tombstoned rows out until the
+-- background purge has removed them.
+ALTER TABLE property ADD COLUMN deleted BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Customers whose listings are still being purged. The row is removed in the same transaction as the
+-- customer, so a purge that failed or was cut off by a restart is picked up again.
+CREATE TABLE customer_purge (
+    customer_id  BIGINT      PRIMARY KEY,
+    requested_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- Lister reads now exclude tombstones; partial indexes keep the portfolio GROUP BY index-only.
+DROP INDEX ix_property_lister_status_type;
+CREATE INDEX ix_property_lister_status_type ON property (lister_id, property_status, property_type) INCLUDE (price) WHERE NOT deleted;
+DROP INDEX ix_property_lister_recent;
+CREATE INDEX ix_property_lister_recent ON property (lister_id, id DESC) WHERE NOT deleted;
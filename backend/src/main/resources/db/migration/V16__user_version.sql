@@ -0,0 +1,2 @@
+-- The property detail embeds the lister's email and role; the user version is part of its ETag.
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
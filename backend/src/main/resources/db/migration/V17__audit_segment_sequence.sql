@@ -0,0 +1,4 @@
+-- Audit segment numbers come from a sequence instead of the local audit directory, so an instance
+-- with a fresh directory, or a second instance, never reuses a (segment, slot) key of exported records.
+CREATE SEQUENCE audit_segment_seq;
+SELECT setval('audit_segment_seq', COALESCE((SELECT MAX(segment) FROM audit_event), 0) + 1, false);
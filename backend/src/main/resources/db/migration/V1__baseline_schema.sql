@@ -0,0 +1,49 @@
+-- Baseline schema, equivalent to what spring.jpa.hibernate.ddl-auto=update generated
+-- before migrations took ownership. Existing databases are baselined at this version
+-- (spring.flyway.baseline-on-migrate), so this script only runs on empty databases.
+
+CREATE TABLE users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email    VARCHAR(255),
+    password VARCHAR(255),
+    role     VARCHAR(255)
+);
+
+CREATE TABLE customer (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name   VARCHAR(255),
+    last_name    VARCHAR(255),
+    address      VARCHAR(255),
+    phone_number VARCHAR(255),
+    user_id      BIGINT REFERENCES users (id)
+);
+
+CREATE TABLE business (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    business_name VARCHAR(255),
+    first_name    VARCHAR(255),
+    last_name     VARCHAR(255),
+    address       VARCHAR(255),
+    phone_number  VARCHAR(255),
+    user_id       BIGINT REFERENCES users (id)
+);
+
+CREATE TABLE property (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    property_type   VARCHAR(255),
+    area            FLOAT(53)    NOT NULL,
+    number_of_rooms VARCHAR(255),
+    floor           INTEGER      NOT NULL,
+    heating_type    VARCHAR(255),
+    address         VARCHAR(255),
+    description     VARCHAR(255),
+    price           FLOAT(53)    NOT NULL,
+    property_status VARCHAR(255),
+    owner_id        BIGINT       NOT NULL REFERENCES customer (id),
+    lister_id       BIGINT REFERENCES users (id)
+);
+
+CREATE TABLE property_image_urls (
+    property_id BIGINT NOT NULL REFERENCES property (id),
+    image_urls  VARCHAR(255)
+);
@@ -0,0 +1,35 @@
+-- Indexes for the access paths used by the repositories and PropertySpecification.
+
+-- UserRepository.findByEmail / existsByEmail, also run by JwtAuthFilter on every request.
+CREATE UNIQUE INDEX ux_users_email ON users (email);
+
+-- CustomerRepository.findByUserId / BusinessRepository.findByUserId (one profile per user).
+CREATE UNIQUE INDEX ux_customer_user_id ON customer (user_id);
+CREATE UNIQUE INDEX ux_business_user_id ON business (user_id);
+
+-- PropertyRepository.findByLister_Id and the owner foreign key (customer deletes, joins in convertToDTO).
+CREATE INDEX ix_property_lister_id ON property (lister_id);
+CREATE INDEX ix_property_owner_id ON property (owner_id);
+
+-- Image collection is always loaded by property id.
+CREATE INDEX ix_property_image_urls_property_id ON property_image_urls (property_id);
+
+-- /search: status and type are the most common filters and are almost always combined with a
+-- price range, so equality columns lead and price closes the composite.
+CREATE INDEX ix_property_status_type_price ON property (property_status, property_type, price);
+
+-- Price and area ranges without an enum filter.
+CREATE INDEX ix_property_price ON property (price);
+CREATE INDEX ix_property_area ON property (area);
+
+-- Room filter is paired with status in practice ("3+1 for rent"); partial indexes keep each one
+-- to the rows of a single status.
+CREATE INDEX ix_property_rooms_for_sale ON property (number_of_rooms, price) WHERE property_status = 'FOR_SALE';
+CREATE INDEX ix_property_rooms_for_rent ON property (number_of_rooms, price) WHERE property_status = 'FOR_RENT';
+
+-- Heating is optional on a listing; only rows that declare it can match the filter.
+CREATE INDEX ix_property_heating_type ON property (heating_type) WHERE heating_type IS NOT NULL;
+
+-- addressContains() is lower(address) LIKE '%term%', which only a trigram index can serve.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX ix_property_address_trgm ON property USING gin (lower(address) gin_trgm_ops);
@@ -0,0 +1,15 @@
+-- Move the unordered property_image_urls element collection into an ordered text[] column on
+-- property. Upload order is not recorded in the old table; physical row order (ctid) is the
+-- closest approximation of insertion order.
+
+ALTER TABLE property ADD COLUMN image_urls TEXT[] NOT NULL DEFAULT '{}';
+
+UPDATE property p
+SET image_urls = i.urls
+FROM (SELECT property_id, array_agg(image_urls ORDER BY ctid) AS urls
+      FROM property_image_urls
+      WHERE image_urls IS NOT NULL
+      GROUP BY property_id) i
+WHERE i.property_id = p.id;
+
+DROP TABLE property_image_urls;
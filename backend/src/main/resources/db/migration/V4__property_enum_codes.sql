@@ -0,0 +1,58 @@
+-- Persist Property enums as SMALLINT codes (see CodedEnum) instead of their names.
+-- Dropping the VARCHAR columns also drops the V2 indexes built on them; they are
+-- recreated on the code columns at the end.
+
+ALTER TABLE property
+    ADD COLUMN property_type_code   SMALLINT,
+    ADD COLUMN number_of_rooms_code SMALLINT,
+    ADD COLUMN heating_type_code    SMALLINT,
+    ADD COLUMN property_status_code SMALLINT;
+
+UPDATE property SET
+    property_type_code = CASE property_type
+        WHEN 'APARTMENT' THEN 1
+        WHEN 'HOUSE' THEN 2
+        WHEN 'VILLA' THEN 3
+        WHEN 'OFFICE' THEN 4
+        WHEN 'OTHER' THEN 5
+    END,
+    number_of_rooms_code = CASE number_of_rooms
+        WHEN 'ONE_PLUS_ONE' THEN 1
+        WHEN 'TWO_PLUS_ONE' THEN 2
+        WHEN 'THREE_PLUS_ONE' THEN 3
+        WHEN 'FOUR_PLUS_ONE' THEN 4
+        WHEN 'FIVE_PLUS_ONE' THEN 5
+        WHEN 'SIX_PLUS_ONE' THEN 6
+        WHEN 'SEVEN_PLUS_ONE' THEN 7
+        WHEN 'EIGHT_PLUS_ONE' THEN 8
+        WHEN 'NINE_PLUS_ONE' THEN 9
+        WHEN 'TEN_PLUS_ONE' THEN 10
+    END,
+    heating_type_code = CASE heating_type
+        WHEN 'NATURAL_GAS' THEN 1
+        WHEN 'CENTRAL_HEATING' THEN 2
+        WHEN 'AIR_CONDITIONING' THEN 3
+        WHEN 'ELECTRIC' THEN 4
+        WHEN 'STOVE' THEN 5
+    END,
+    property_status_code = CASE property_status
+        WHEN 'FOR_SALE' THEN 1
+        WHEN 'FOR_RENT' THEN 2
+    END;
+
+ALTER TABLE property
+    DROP COLUMN property_type,
+    DROP COLUMN number_of_rooms,
+    DROP COLUMN heating_type,
+    DROP COLUMN property_status;
+
+ALTER TABLE property RENAME COLUMN property_type_code TO property_type;
+ALTER TABLE property RENAME COLUMN number_of_rooms_code TO number_of_rooms;
+ALTER TABLE property RENAME COLUMN heating_type_code TO heating_type;
+ALTER TABLE property RENAME COLUMN property_status_code TO property_status;
+
+-- Same index set as V2, now two bytes per enum key instead of a varlena string.
+CREATE INDEX ix_property_status_type_price ON property (property_status, property_type, price);
+CREATE INDEX ix_property_rooms_for_sale ON property (number_of_rooms, price) WHERE property_status = 1;
+CREATE INDEX ix_property_rooms_for_rent ON property (number_of_rooms, price) WHERE property_status = 2;
+CREATE INDEX ix_property_heating_type ON property (heating_type) WHERE heating_type IS NOT NULL;
@@ -0,0 +1,27 @@
+-- Active/archived split for listings. Sold (3) and rented (4) listings are flagged archived by
+-- PropertyArchiver; every search index becomes partial on NOT archived so the hot index set
+-- only grows with active listings, no matter how much history accumulates.
+
+ALTER TABLE property ADD COLUMN archived BOOLEAN NOT NULL DEFAULT FALSE;
+
+DROP INDEX ix_property_status_type_price;
+DROP INDEX ix_property_price;
+DROP INDEX ix_property_area;
+DROP INDEX ix_property_rooms_for_sale;
+DROP INDEX ix_property_rooms_for_rent;
+DROP INDEX ix_property_heating_type;
+DROP INDEX ix_property_address_trgm;
+
+CREATE INDEX ix_property_active_status_type_price ON property (property_status, property_type, price) WHERE NOT archived;
+CREATE INDEX ix_property_active_price ON property (price) WHERE NOT archived;
+CREATE INDEX ix_property_active_area ON property (area) WHERE NOT archived;
+CREATE INDEX ix_property_active_rooms_for_sale ON property (number_of_rooms, price) WHERE NOT archived AND property_status = 1;
+CREATE INDEX ix_property_active_rooms_for_rent ON property (number_of_rooms, price) WHERE NOT archived AND property_status = 2;
+CREATE INDEX ix_property_active_heating_type ON property (heating_type) WHERE NOT archived AND heating_type IS NOT NULL;
+CREATE INDEX ix_property_active_address_trgm ON property USING gin (lower(address) gin_trgm_ops) WHERE NOT archived;
+
+-- History searches (includeHistory=true) fall back to a full index on status.
+CREATE INDEX ix_property_status ON property (property_status);
+
+-- Work queue for the archiver: closed listings not yet archived.
+CREATE INDEX ix_property_closed_pending ON property (id) WHERE NOT archived AND property_status IN (3, 4);
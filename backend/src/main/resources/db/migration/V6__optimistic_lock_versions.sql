@@ -0,0 +1,4 @@
+-- @Version columns. The property version is also the strong ETag of GET /api/properties/{id}.
+ALTER TABLE property ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE customer ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE business ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,7 @@
+-- Per-table change counters backing the weak ETags of collection endpoints (ChangeWatermarkService).
+CREATE TABLE change_watermark (
+    table_name VARCHAR(64) PRIMARY KEY,
+    version    BIGINT      NOT NULL
+);
+
+INSERT INTO change_watermark (table_name, version) VALUES ('property', 0);
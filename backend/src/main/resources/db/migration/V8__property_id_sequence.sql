@@ -0,0 +1,7 @@
+-- Property ids come from a pooled sequence (allocation size 50) so Hibernate can batch inserts.
+-- Hibernate's pooled optimizer treats each nextval as the top of a block of 50, so the sequence
+-- starts 50 above the current maximum to keep the first block clear of existing ids.
+CREATE SEQUENCE property_seq INCREMENT BY 50;
+SELECT setval('property_seq', COALESCE((SELECT MAX(id) FROM property), 0) + 50, false);
+
+ALTER TABLE property ALTER COLUMN id DROP IDENTITY;
@@ -0,0 +1,8 @@
+-- Portfolio summary: one GROUP BY status, type over a lister's listings. The composite (with price
+-- included) lets PostgreSQL answer it with an index-only scan, and it supersedes the plain
+-- lister_id index for findByLister_Id.
+CREATE INDEX ix_property_lister_status_type ON property (lister_id, property_status, property_type) INCLUDE (price);
+DROP INDEX ix_property_lister_id;
+
+-- Recent-listings page of the portfolio: newest ids first within a lister.
+CREATE INDEX ix_property_lister_recent ON property (lister_id, id DESC);
@@ -32,12 +32,16 @@ export const heatingTypeReverseMap = {
 
 export const statusTypeMap = {
     FOR_SALE: "Satılık",
-    FOR_RENT: "Kiralık"
+    FOR_RENT: "Kiralık",
+    SOLD: "Satıldı",
+    RENTED: "Kiralandı"
 };
 
 export const statusTypeReverseMap = {
     Satılık: "FOR_SALE",
-    Kiralık: "FOR_RENT"
+    Kiralık: "FOR_RENT",
+    Satıldı: "SOLD",
+    Kiralandı: "RENTED"
 };
 
 export const numberOfRoomsMap = [
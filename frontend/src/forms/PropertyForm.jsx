@@ -48,7 +48,7 @@ const PropertyForm = () => {
             let response;
             try {
                 response = await axios.get(
-                    `http://localhost:8080/api/customers/search?query=${encodeURIComponent(inputValue)}`,
+                    `http://localhost:8080/api/customers/typeahead?q=${encodeURIComponent(inputValue)}&limit=20`,
                     { headers: { Authorization: `Bearer ${token}` } }
                 );
             } catch {